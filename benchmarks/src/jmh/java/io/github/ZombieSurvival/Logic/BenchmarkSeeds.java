@@ -0,0 +1,16 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * Shared seed so every benchmark run spawns the same entities.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+final class BenchmarkSeeds {
+    /**
+     * Seed of every simulation's spawns, and of MathUtils.random for other test data.
+     */
+    static final long SEED = 2522L;
+
+    private BenchmarkSeeds() { }
+}
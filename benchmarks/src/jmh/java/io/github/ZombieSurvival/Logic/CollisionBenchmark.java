@@ -0,0 +1,60 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures enemy hit box and item pickup checks, with and without the spatial grid.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class CollisionBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int entityCount;
+
+    @Param({"true", "false"})
+    private boolean useSpatialGrid;
+
+    private GameSimulation simulation;
+
+    /**
+     * Spawns the enemies and items, again for every iteration since collisions remove some.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new GameSimulation(Difficulty.EASY, BenchmarkSeeds.SEED);
+        simulation.setUseSpatialGrid(useSpatialGrid);
+        for (int index = 0; index < entityCount; index++) {
+            simulation.createEnemy();
+            simulation.createItem();
+        }
+    }
+
+    /**
+     * Tests every enemy against the ability and the player, then drops the killed ones.
+     * Keeps both checks on, since they are skipped once the player is invincible.
+     */
+    @Benchmark
+    public void logicEnemyHitBox() {
+        simulation.setAbilityActivated(true);
+        simulation.setPlayerInvincible(false);
+        simulation.logicEnemyHitBox();
+        simulation.removeDeadEntities();
+    }
+
+    /**
+     * Tests every item against the player, then drops the picked up ones.
+     */
+    @Benchmark
+    public void logicItemPickup() {
+        simulation.logicItemPickup();
+        simulation.removeDeadEntities();
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import io.github.ZombieSurvival.Ecs.DepthSortSystem;
+import io.github.ZombieSurvival.Ecs.EntityTable;
+import io.github.ZombieSurvival.Sprites.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures sorting entities into drawing order after each of them moved a few pixels.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class DepthSortBenchmark {
+    /*
+     * Furthest an entity moves along the Y axis between two sorts.
+     */
+    private static final float MAX_STEP = 5f;
+
+    @Param({"10", "1000", "10000", "100000"})
+    private int entityCount;
+
+    private Array<Entity> fullSortEntities;
+    private Array<Entity> insertionSortEntities;
+    private EntityTable table;
+    private final DepthSortSystem depthSortSystem = new DepthSortSystem();
+    private float[] steps;
+    private int frame;
+
+    /**
+     * Creates the entities at random heights, sorted once.
+     */
+    @Setup
+    public void setUp() {
+        MathUtils.random.setSeed(BenchmarkSeeds.SEED);
+        fullSortEntities = new Array<>(entityCount);
+        insertionSortEntities = new Array<>(true, entityCount, Entity.class);
+        steps = new float[entityCount];
+        table = new EntityTable();
+        for (int index = 0; index < entityCount; index++) {
+            final float y = MathUtils.random(0f, 1000f);
+            final Entity first = new SortedEntity();
+            first.setY(y);
+            fullSortEntities.add(first);
+            final Entity second = new SortedEntity();
+            second.setY(y);
+            insertionSortEntities.add(second);
+            steps[index] = MathUtils.random(-MAX_STEP, MAX_STEP);
+            final int entity = table.add();
+            table.setPosition(entity, 0, y);
+        }
+        fullSortEntities.sort();
+        insertionSort(insertionSortEntities);
+        depthSortSystem.sort(table);
+        frame = 0;
+    }
+
+    /**
+     * Moves every entity, then fully sorts them by their natural order.
+     *
+     * @return the front most entity
+     */
+    @Benchmark
+    public Entity fullSort() {
+        final float direction = nextDirection();
+        for (int index = 0; index < fullSortEntities.size; index++) {
+            fullSortEntities.get(index).translateY(steps[index] * direction);
+        }
+        fullSortEntities.sort();
+        return fullSortEntities.peek();
+    }
+
+    /**
+     * Moves every entity, then fixes the nearly sorted order of the sprites with an
+     * insertion sort, for comparing against the component arrays.
+     *
+     * @return the front most entity
+     */
+    @Benchmark
+    public Entity incrementalSort() {
+        final float direction = nextDirection();
+        for (int index = 0; index < insertionSortEntities.size; index++) {
+            insertionSortEntities.get(index).translateY(steps[index] * direction);
+        }
+        insertionSort(insertionSortEntities);
+        return insertionSortEntities.peek();
+    }
+
+    /**
+     * Moves every entity, then lets DepthSortSystem fix the nearly sorted order of the
+     * component arrays.
+     *
+     * @return the Y coordinate of the front most entity
+     */
+    @Benchmark
+    public float componentSort() {
+        final float direction = nextDirection();
+        for (int index = 0; index < table.getSize(); index++) {
+            table.setPosition(index, 0, table.getY(index) + steps[index] * direction);
+        }
+        depthSortSystem.sort(table);
+        return table.getY(table.getSize() - 1);
+    }
+
+    /*
+     * Sorts the entities back to front, shifting each one past those in front of it.
+     */
+    private static void insertionSort(final Array<Entity> entities) {
+        final Entity[] items = entities.items;
+        for (int index = 1; index < entities.size; index++) {
+            final Entity current = items[index];
+            int position = index;
+            while (position > 0 && items[position - 1].compareTo(current) > 0) {
+                items[position] = items[position - 1];
+                position--;
+            }
+            items[position] = current;
+        }
+    }
+
+    /*
+     * Alternates the movement direction so entities stay around their starting heights.
+     */
+    private float nextDirection() {
+        frame++;
+        if ((frame & 1) == 0) {
+            return 1f;
+        }
+        return -1f;
+    }
+
+    /*
+     * A bare entity to sort, with no stats of its own.
+     */
+    private static final class SortedEntity extends Entity { }
+}
@@ -0,0 +1,42 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures one tick of enemies chasing the player.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class EnemyMovementBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int entityCount;
+
+    private GameSimulation simulation;
+
+    /**
+     * Spawns the enemies, again for every iteration so they have not all reached the player.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new GameSimulation(Difficulty.EASY, BenchmarkSeeds.SEED);
+        for (int index = 0; index < entityCount; index++) {
+            simulation.createEnemy();
+        }
+    }
+
+    /**
+     * Moves every enemy one tick towards the player.
+     */
+    @Benchmark
+    public void logicEnemyMovement() {
+        simulation.logicEnemyMovement();
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import io.github.ZombieSurvival.Ecs.CollisionSystem;
+import io.github.ZombieSurvival.Ecs.DepthSortSystem;
+import io.github.ZombieSurvival.Ecs.EntityTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures the entity systems walking the chunked component arrays of a large item table.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class EntitySystemsBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int entityCount;
+
+    private EntityTable table;
+    private float[] spawnX;
+    private float[] spawnY;
+    private final CollisionSystem collisionSystem = new CollisionSystem();
+    private final DepthSortSystem depthSortSystem = new DepthSortSystem();
+    private final Rectangle player = new Rectangle(600f, 500f, 60f, 100f);
+
+    /**
+     * Rolls the spawn positions and fills the table with them, sorted once.
+     */
+    @Setup
+    public void setUp() {
+        MathUtils.random.setSeed(BenchmarkSeeds.SEED);
+        table = new EntityTable();
+        spawnX = new float[entityCount];
+        spawnY = new float[entityCount];
+        for (int index = 0; index < entityCount; index++) {
+            spawnX[index] = MathUtils.random(0f, GameSimulation.PLATFORM_WIDTH);
+            spawnY[index] = MathUtils.random(0f, GameSimulation.PLATFORM_HEIGHT);
+        }
+        spawnAll();
+        depthSortSystem.sort(table);
+    }
+
+    /**
+     * Sweeps the player's hit box against every item without a broad phase.
+     *
+     * @return the amount of items hit
+     */
+    @Benchmark
+    public int collision() {
+        return collisionSystem.sweep(table, player, 5f, 5f, null).size;
+    }
+
+    /**
+     * Spawns the whole table again in random order and sorts it into drawing order,
+     * which is too far out of order for the insertion sort.
+     *
+     * @return the Y coordinate of the front most item
+     */
+    @Benchmark
+    public float spawnAndSort() {
+        table.clear();
+        spawnAll();
+        depthSortSystem.sort(table);
+        return table.getY(table.getSize() - 1);
+    }
+
+    /*
+     * Adds an item at every spawn position.
+     */
+    private void spawnAll() {
+        for (int index = 0; index < entityCount; index++) {
+            final int item = table.add();
+            table.setPosition(item, spawnX[index], spawnY[index]);
+            table.setHitBox(item, 0, 0, GameSimulation.ITEM_SPRITE_LENGTH,
+                GameSimulation.ITEM_SPRITE_LENGTH);
+        }
+    }
+}
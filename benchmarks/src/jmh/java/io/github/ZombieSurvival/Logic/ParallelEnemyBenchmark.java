@@ -0,0 +1,47 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures one tick of enemy movement and hit box checks, on one thread and split across threads.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class ParallelEnemyBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int entityCount;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    private GameSimulation simulation;
+
+    /**
+     * Spawns the enemies, again for every iteration since the ability kills some.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulation = new GameSimulation(Difficulty.EASY, BenchmarkSeeds.SEED);
+        simulation.setParallelEnemyUpdate(parallel);
+        for (int index = 0; index < entityCount; index++) {
+            simulation.createEnemy();
+        }
+    }
+
+    /**
+     * Moves every enemy and tests it against the player, keeping the player hit test on.
+     */
+    @Benchmark
+    public void logicEnemies() {
+        simulation.setPlayerInvincible(false);
+        simulation.logicEnemies();
+    }
+}
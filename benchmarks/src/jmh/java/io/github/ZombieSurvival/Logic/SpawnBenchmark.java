@@ -0,0 +1,95 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Ecs.EntityTable;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+import io.github.ZombieSurvival.Sprites.EnemyStore;
+import io.github.ZombieSurvival.Sprites.Generate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures spawning a wave of entities through Generate.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class SpawnBenchmark {
+    @Param({"10", "1000", "10000", "100000"})
+    private int entityCount;
+
+    private ArchetypeRegistry archetypes;
+    private int zombie;
+    private int apple;
+    private EnemyStore enemies;
+    private EntityTable items;
+
+    /**
+     * Creates a store large enough for the whole wave.
+     */
+    @Setup
+    public void setUp() {
+        archetypes = ArchetypeRegistry.getDefault();
+        zombie = archetypes.findEnemy("STANDARD");
+        apple = archetypes.findItem("APPLE");
+        enemies = new EnemyStore(archetypes, entityCount);
+        items = new EntityTable();
+    }
+
+    /**
+     * Spawns a wave of zombies into the enemy store.
+     *
+     * @return the amount of enemies stored
+     */
+    @Benchmark
+    public int spawnZombies() {
+        enemies.clear();
+        for (int index = 0; index < entityCount; index++) {
+            Generate.createEnemy(enemies, zombie, index, index);
+        }
+        return enemies.getSize();
+    }
+
+    /**
+     * Spawns a wave of items into chunks kept from the previous wave, then collects them all.
+     *
+     * @return the amount of items spawned
+     */
+    @Benchmark
+    public int spawnItemsPooled() {
+        spawnItems(items);
+        final int spawned = items.getSize();
+        items.clear();
+        return spawned;
+    }
+
+    /**
+     * Spawns a wave of items into an empty table, so every chunk is newly allocated.
+     *
+     * @param blackhole a Blackhole
+     */
+    @Benchmark
+    public void spawnItemsUnpooled(final Blackhole blackhole) {
+        final EntityTable emptyTable = new EntityTable();
+        spawnItems(emptyTable);
+        blackhole.consume(emptyTable);
+    }
+
+    /*
+     * Adds a wave of apples to the table along a diagonal.
+     */
+    private void spawnItems(final EntityTable table) {
+        for (int index = 0; index < entityCount; index++) {
+            final int item = table.add();
+            table.setPosition(item, index, index);
+            table.setHitBox(item, 0, 0, GameSimulation.ITEM_SPRITE_LENGTH,
+                GameSimulation.ITEM_SPRITE_LENGTH);
+            table.setRegion(item, apple, false);
+            table.setArchetype(item, apple);
+        }
+    }
+}
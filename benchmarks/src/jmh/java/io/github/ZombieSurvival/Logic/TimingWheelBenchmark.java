@@ -0,0 +1,49 @@
+package io.github.ZombieSurvival.Logic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures one tick of a timing wheel holding many repeating timers,
+ * most of which are not due in the measured tick.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@State(Scope.Thread)
+public class TimingWheelBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int timerCount;
+
+    private TimingWheel timers;
+    private Blackhole blackhole;
+
+    /**
+     * Schedules timers repeating every 1 to 10 seconds at 60 ticks a second.
+     *
+     * @param sink a Blackhole consuming every expired timer
+     */
+    @Setup(Level.Iteration)
+    public void setUp(final Blackhole sink) {
+        blackhole = sink;
+        timers = new TimingWheel((kind, target) -> blackhole.consume(target));
+        final int ticksPerSecond = 60;
+        for (int index = 0; index < timerCount; index++) {
+            final int period = ticksPerSecond * (1 + index % 10);
+            timers.scheduleRepeating(1 + index % period, period, 0, index);
+        }
+    }
+
+    /**
+     * Runs one tick, expiring and rescheduling the timers due in it.
+     */
+    @Benchmark
+    public void tick() {
+        timers.tick();
+    }
+}
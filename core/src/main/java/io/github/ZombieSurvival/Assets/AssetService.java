@@ -0,0 +1,208 @@
+package io.github.ZombieSurvival.Assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/**
+ * Loads every asset of the game once through an AssetManager and shares it between screens.
+ * Screens acquire the assets they draw or play and release them when disposed.
+ * An asset is only unloaded once no screen holds it and it was not preloaded,
+ * so moving between screens never decodes the same file twice.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class AssetService implements Disposable {
+    /**
+     * Packed sprites, buttons and font, generated by the packTextures task.
+     */
+    public static final String SPRITE_ATLAS = "sprites.atlas";
+    /**
+     * Game screen background.
+     */
+    public static final String CITY_RUINS = "City_Ruins.png";
+    /**
+     * Game screen platform.
+     */
+    public static final String MAP_PLATFORM = "Map_Platform.png";
+    /**
+     * Main menu music track, without its extension.
+     */
+    public static final String MENU_MUSIC = "Labyrinth of Shadows";
+    /**
+     * Game screen music track, without its extension.
+     */
+    public static final String GAME_MUSIC = "Haunted Visions";
+    /**
+     * Result and game over screen music track, without its extension.
+     */
+    public static final String RESULT_MUSIC = "Surrender to Shadows";
+    /*
+     * Music formats from most to least preferred. Ogg Vorbis streams at a fraction of the
+     * size of the WAV masters, so it is used whenever an encoded copy sits next to them.
+     */
+    private static final String[] MUSIC_EXTENSIONS = {".ogg", ".mp3", ".wav"};
+
+    private final AssetManager manager;
+    // Screens currently holding each asset
+    private final ObjectIntMap<String> references;
+    // Assets kept loaded for the whole game, even when no screen holds them
+    private final ObjectSet<String> resident;
+
+    /**
+     * Constructs an AssetService with nothing loaded.
+     */
+    public AssetService() {
+        manager = new AssetManager();
+        references = new ObjectIntMap<>();
+        resident = new ObjectSet<>();
+    }
+
+    /**
+     * Queues every asset of the game to be loaded by update and kept loaded until disposed.
+     */
+    public void preloadAll() {
+        preload(SPRITE_ATLAS, TextureAtlas.class);
+        preload(CITY_RUINS, Texture.class);
+        preload(MAP_PLATFORM, Texture.class);
+        preload(getTrackPath(MENU_MUSIC), Music.class);
+        preload(getTrackPath(GAME_MUSIC), Music.class);
+        preload(getTrackPath(RESULT_MUSIC), Music.class);
+    }
+
+    /**
+     * Returns the file of the music track in the most compact format available.
+     *
+     * @param track a String, the track name without its extension
+     * @return the path of the track as String
+     */
+    public String getTrackPath(final String track) {
+        for (String extension : MUSIC_EXTENSIONS) {
+            final String path = track + extension;
+            if (Gdx.files.internal(path).exists()) {
+                return path;
+            }
+        }
+        // Let the loader report the missing file
+        return track + MUSIC_EXTENSIONS[MUSIC_EXTENSIONS.length - 1];
+    }
+
+    /**
+     * Loads queued assets for up to the specified amount of time.
+     * Files are read on a background thread; only uploading to the GPU runs on this one.
+     *
+     * @param budgetMillis an int
+     * @return true if every queued asset is loaded, otherwise false
+     */
+    public boolean update(final int budgetMillis) {
+        return manager.update(budgetMillis);
+    }
+    /**
+     * Returns how much of the queue is loaded.
+     *
+     * @return progress as a float from 0 to 1
+     */
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    /**
+     * Returns the asset at path and counts one more holder of it.
+     * Only blocks if the asset was neither preloaded nor held by another screen.
+     *
+     * @param path a String
+     * @param type a Class of the asset
+     * @param <T> the asset type
+     * @return the asset
+     */
+    public <T> T acquire(final String path, final Class<T> type) {
+        if (!manager.contains(path)) {
+            manager.load(path, type);
+        }
+        final T asset = manager.finishLoadingAsset(path);
+        references.getAndIncrement(path, 0, 1);
+        return asset;
+    }
+    /**
+     * Counts one less holder of the asset at path, unloading it if it was the last holder
+     * and the asset was not preloaded.
+     *
+     * @param path a String
+     * @throws IllegalArgumentException if the asset at path is not held
+     */
+    public void release(final String path) {
+        final int count = references.get(path, 0);
+        if (count <= 0) {
+            throw new IllegalArgumentException("Asset " + path + " is not held.");
+        }
+        if (count == 1) {
+            references.remove(path, 0);
+            if (!resident.contains(path)) {
+                manager.unload(path);
+            }
+        } else {
+            references.put(path, count - 1);
+        }
+    }
+    /**
+     * Returns the amount of screens holding the asset at path.
+     *
+     * @param path a String
+     * @return the reference count as int
+     */
+    public int getReferenceCount(final String path) {
+        return references.get(path, 0);
+    }
+    /**
+     * Returns the loaded asset at path without counting a holder, for preloaded assets.
+     *
+     * @param path a String
+     * @param type a Class of the asset
+     * @param <T> the asset type
+     * @return the asset
+     */
+    public <T> T get(final String path, final Class<T> type) {
+        return manager.get(path, type);
+    }
+
+    /*
+     * Queues the asset and keeps it loaded for the whole game.
+     */
+    private <T> void preload(final String path, final Class<T> type) {
+        if (resident.add(path)) {
+            manager.load(path, type);
+        }
+    }
+
+    /**
+     * Unloads every asset.
+     */
+    @Override
+    public void dispose() {
+        manager.dispose();
+        references.clear();
+        resident.clear();
+    }
+
+    /**
+     * Returns a String representation of this AssetService.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("AssetService{");
+        builder.append("loaded=").append(manager.getLoadedAssets()).append(", ");
+        builder.append("queued=").append(manager.getQueuedAssets()).append(", ");
+        builder.append("held=").append(references.size);
+        builder.append("}");
+        return builder.toString();
+    }
+}
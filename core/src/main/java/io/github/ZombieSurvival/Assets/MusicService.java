@@ -0,0 +1,162 @@
+package io.github.ZombieSurvival.Assets;
+
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/**
+ * Plays the background music of every screen, crossfading when the track changes.
+ * Each track is opened once and its handle kept for the whole game, so changing screens
+ * never reopens or re-buffers a file. Music streams on the audio thread, so nothing
+ * here blocks the render thread.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class MusicService implements Disposable {
+    private final AssetService assets;
+    private final float crossfadeSeconds;
+    private final float volume;
+    // Open track handles by file path
+    private final ObjectMap<String, Music> tracks;
+    private Music current;
+    private Music fading;
+    private float fadeTimer;
+
+    /**
+     * Constructs a MusicService that loads its tracks from the specified AssetService.
+     *
+     * @param assets an AssetService
+     * @param crossfadeSeconds a float
+     * @param volume a float from 0 to 1
+     * @throws IllegalArgumentException if assets is null, crossfadeSeconds is negative,
+     *                                  or volume is outside 0 to 1
+     */
+    public MusicService(final AssetService assets, final float crossfadeSeconds,
+                        final float volume) {
+        if (assets == null) {
+            throw new IllegalArgumentException("There are no assets to load music from.");
+        }
+        if (crossfadeSeconds < 0) {
+            throw new IllegalArgumentException("Crossfade time cannot be negative.");
+        }
+        if (volume < 0 || volume > 1) {
+            throw new IllegalArgumentException("Volume must be between 0 and 1.");
+        }
+        this.assets = assets;
+        this.crossfadeSeconds = crossfadeSeconds;
+        this.volume = volume;
+        tracks = new ObjectMap<>();
+        current = null;
+        fading = null;
+        fadeTimer = 0;
+    }
+
+    /**
+     * Starts the track from the beginning, fading out the track that was playing.
+     * Does nothing if the track is already playing.
+     *
+     * @param track a String, the track name without its extension
+     */
+    public void play(final String track) {
+        final Music next = getTrack(track);
+        if (next == current && next.isPlaying()) {
+            return;
+        }
+        if (fading != null && fading != next) {
+            fading.stop();
+        }
+        fading = current == next ? null : current;
+        current = next;
+        fadeTimer = 0;
+        current.stop();
+        current.setVolume(crossfadeSeconds == 0 ? volume : 0);
+        current.play();
+        if (crossfadeSeconds == 0) {
+            finishFade();
+        }
+    }
+
+    /**
+     * Advances the crossfade. Called once a frame.
+     *
+     * @param delta a float, the seconds since the last frame
+     */
+    public void update(final float delta) {
+        if (current == null || fadeTimer >= crossfadeSeconds) {
+            return;
+        }
+        fadeTimer = Math.min(crossfadeSeconds, fadeTimer + delta);
+        final float progress = fadeTimer / crossfadeSeconds;
+        current.setVolume(volume * progress);
+        if (fading != null) {
+            fading.setVolume(volume * (1 - progress));
+        }
+        if (fadeTimer >= crossfadeSeconds) {
+            finishFade();
+        }
+    }
+
+    /**
+     * Stops every track straight away.
+     */
+    public void stop() {
+        if (current != null) {
+            current.stop();
+        }
+        finishFade();
+        current = null;
+    }
+
+    /*
+     * Returns the open handle of the track, opening it on first use.
+     */
+    private Music getTrack(final String track) {
+        final String path = assets.getTrackPath(track);
+        Music music = tracks.get(path);
+        if (music == null) {
+            music = assets.acquire(path, Music.class);
+            tracks.put(path, music);
+        }
+        return music;
+    }
+
+    /*
+     * Stops the faded out track.
+     */
+    private void finishFade() {
+        if (fading != null) {
+            fading.stop();
+            fading = null;
+        }
+        fadeTimer = crossfadeSeconds;
+    }
+
+    /**
+     * Stops every track and releases their handles.
+     */
+    @Override
+    public void dispose() {
+        stop();
+        for (ObjectMap.Entry<String, Music> entry : tracks) {
+            assets.release(entry.key);
+        }
+        tracks.clear();
+    }
+
+    /**
+     * Returns a String representation of this MusicService.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("MusicService{");
+        builder.append("tracks=").append(tracks.size).append(", ");
+        builder.append("crossfadeSeconds=").append(crossfadeSeconds).append(", ");
+        builder.append("fading=").append(fading != null);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.ZombieSurvival.Ecs;
+
+/**
+ * A fixed block of items, each component a dense array.
+ * Systems loop over a chunk's arrays from 0 up to its size.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class Chunk {
+    /**
+     * Entities held by one chunk.
+     */
+    public static final int CAPACITY = 1024;
+    // Entity index bits that pick the chunk, and the bits that pick the slot within it
+    static final int SHIFT = 10;
+    static final int SLOT_MASK = CAPACITY - 1;
+
+    // Position
+    final float[] x;
+    final float[] y;
+    final float[] previousX;
+    final float[] previousY;
+    // Hit box
+    final float[] hitBoxOffsetX;
+    final float[] hitBoxOffsetY;
+    final float[] hitBoxWidth;
+    final float[] hitBoxHeight;
+    // Render
+    final short[] regions;
+    final boolean[] flipX;
+    // Stats
+    final short[] archetypes;
+    // Marked for removal at the end of the tick
+    final boolean[] dead;
+    int size;
+
+    /**
+     * Constructs an empty Chunk.
+     */
+    public Chunk() {
+        this(CAPACITY);
+    }
+
+    /*
+     * Constructs an empty Chunk of the specified capacity, such as a single scratch slot.
+     */
+    Chunk(final int capacity) {
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        hitBoxOffsetX = new float[capacity];
+        hitBoxOffsetY = new float[capacity];
+        hitBoxWidth = new float[capacity];
+        hitBoxHeight = new float[capacity];
+        regions = new short[capacity];
+        flipX = new boolean[capacity];
+        archetypes = new short[capacity];
+        dead = new boolean[capacity];
+        size = 0;
+    }
+
+    /*
+     * Copies every component of the entity at source in from into the slot at target.
+     */
+    void copy(final Chunk from, final int source, final int target) {
+        x[target] = from.x[source];
+        y[target] = from.y[source];
+        previousX[target] = from.previousX[source];
+        previousY[target] = from.previousY[source];
+        hitBoxOffsetX[target] = from.hitBoxOffsetX[source];
+        hitBoxOffsetY[target] = from.hitBoxOffsetY[source];
+        hitBoxWidth[target] = from.hitBoxWidth[source];
+        hitBoxHeight[target] = from.hitBoxHeight[source];
+        regions[target] = from.regions[source];
+        flipX[target] = from.flipX[source];
+        archetypes[target] = from.archetypes[source];
+        dead[target] = from.dead[source];
+    }
+
+    /*
+     * Clears the slot at index for a new entity.
+     */
+    void reset(final int index) {
+        x[index] = 0;
+        y[index] = 0;
+        previousX[index] = 0;
+        previousY[index] = 0;
+        hitBoxOffsetX[index] = 0;
+        hitBoxOffsetY[index] = 0;
+        hitBoxWidth[index] = 0;
+        hitBoxHeight[index] = 0;
+        regions[index] = 0;
+        flipX[index] = false;
+        archetypes[index] = 0;
+        dead[index] = false;
+    }
+
+    /**
+     * Returns the amount of entities in this Chunk.
+     *
+     * @return size as int
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns a String representation of this Chunk.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("Chunk{");
+        builder.append("size=").append(size);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.ZombieSurvival.Ecs;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.ZombieSurvival.Logic.SweptCollision;
+
+/**
+ * Finds the entities whose hit box a moving rectangle, such as the player's, touched this tick.
+ * Both the rectangle and the entities are swept from their previous positions, so neither
+ * can pass through the other in one long step.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class CollisionSystem {
+    private final Rectangle hitBox;
+    private final IntArray hits;
+
+    /**
+     * Constructs a CollisionSystem.
+     */
+    public CollisionSystem() {
+        hitBox = new Rectangle();
+        hits = new IntArray();
+    }
+
+    /**
+     * Returns the index of every live entity of the table that the moving rectangle overlaps
+     * along its path this tick. Only the candidates are tested, or every entity if there are
+     * none, so a spatial grid can narrow the search down first.
+     *
+     * @param table an EntityTable
+     * @param moving a Rectangle where it ended up this tick
+     * @param moveX a float, how far moving moved along the X axis this tick
+     * @param moveY a float, how far moving moved along the Y axis this tick
+     * @param candidates an IntArray of entity indices, or null to test every entity
+     * @return an IntArray of entity indices in the order tested, reused by the next call
+     */
+    public IntArray sweep(final EntityTable table, final Rectangle moving,
+                          final float moveX, final float moveY, final IntArray candidates) {
+        hits.clear();
+        if (candidates != null) {
+            for (int index = 0; index < candidates.size; index++) {
+                final int entity = candidates.get(index);
+                if (test(table.getChunkOf(entity), entity & Chunk.SLOT_MASK,
+                    moving, moveX, moveY)) {
+                    hits.add(entity);
+                }
+            }
+            return hits;
+        }
+        for (int chunkIndex = 0; chunkIndex < table.getChunkCount(); chunkIndex++) {
+            final Chunk chunk = table.getChunk(chunkIndex);
+            for (int slot = 0; slot < chunk.size; slot++) {
+                if (test(chunk, slot, moving, moveX, moveY)) {
+                    hits.add((chunkIndex << Chunk.SHIFT) | slot);
+                }
+            }
+        }
+        return hits;
+    }
+
+    /*
+     * Returns true if the entity in the slot is alive and moving touched it this tick,
+     * sweeping moving backwards along its movement relative to the entity's.
+     */
+    private boolean test(final Chunk chunk, final int slot, final Rectangle moving,
+                         final float moveX, final float moveY) {
+        if (chunk.dead[slot]) {
+            return false;
+        }
+        hitBox.set(chunk.x[slot] + chunk.hitBoxOffsetX[slot],
+            chunk.y[slot] + chunk.hitBoxOffsetY[slot],
+            chunk.hitBoxWidth[slot], chunk.hitBoxHeight[slot]);
+        final float relativeMoveX = moveX - (chunk.x[slot] - chunk.previousX[slot]);
+        final float relativeMoveY = moveY - (chunk.y[slot] - chunk.previousY[slot]);
+        return SweptCollision.overlaps(moving, -relativeMoveX, -relativeMoveY, hitBox);
+    }
+
+    /**
+     * Returns a String representation of this CollisionSystem.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("CollisionSystem{");
+        builder.append("hits=").append(hits.size);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.ZombieSurvival.Ecs;
+
+import java.util.Arrays;
+
+/**
+ * Keeps items ordered from the highest to the lowest Y coordinate,
+ * so drawing them in index order paints them back to front.
+ * Uses an insertion sort, which is close to linear since entities barely move between ticks
+ * and new ones only need to be moved into place. When the entities are too far out of order
+ * for that, such as a whole wave just spawned, it sorts their depths and moves each entity
+ * once instead.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class DepthSortSystem {
+    // Places the insertion sort may move entities, per entity, before a full sort takes over
+    private static final int SHIFT_BUDGET = 2;
+
+    // Full sort buffers, grown to the largest table sorted
+    private long[] keys;
+    private int[] sources;
+    private boolean[] placed;
+
+    /**
+     * Constructs a DepthSortSystem.
+     */
+    public DepthSortSystem() {
+        keys = new long[0];
+        sources = new int[0];
+        placed = new boolean[0];
+    }
+
+    /**
+     * Sorts the table from the highest to the lowest Y coordinate if an entity was added or
+     * moved along the Y axis since the last sort. Entities on the same row keep their order.
+     *
+     * @param table an EntityTable
+     * @return true if any entity changed index, so indices held elsewhere are stale
+     */
+    public boolean sort(final EntityTable table) {
+        if (!table.isUnsorted()) {
+            return false;
+        }
+        boolean reordered = false;
+        long budget = (long) table.getSize() * SHIFT_BUDGET;
+        for (int index = 1; index < table.getSize(); index++) {
+            final int moved = table.moveForward(index);
+            reordered |= moved > 0;
+            budget -= moved;
+            if (budget < 0) {
+                sortAll(table);
+                break;
+            }
+        }
+        table.setUnsorted(false);
+        return reordered;
+    }
+
+    /*
+     * Sorts every entity of the table by packing its depth and index into one key,
+     * so the primitive sort keeps entities on the same row in order.
+     */
+    private void sortAll(final EntityTable table) {
+        final int size = table.getSize();
+        if (keys.length < size) {
+            keys = new long[size];
+            sources = new int[size];
+            placed = new boolean[size];
+        }
+        for (int index = 0; index < size; index++) {
+            // Negated so the highest Y sorts first; adding zero turns -0 into 0
+            final int bits = Float.floatToIntBits(-table.getY(index) + 0f);
+            final int depth = bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+            keys[index] = ((long) depth << 32) | index;
+        }
+        Arrays.sort(keys, 0, size);
+        for (int index = 0; index < size; index++) {
+            sources[index] = (int) keys[index];
+        }
+        table.rearrange(sources, placed);
+    }
+
+    /**
+     * Returns a String representation of this DepthSortSystem.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        return "DepthSortSystem{}";
+    }
+}
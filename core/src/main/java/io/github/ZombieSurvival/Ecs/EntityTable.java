@@ -0,0 +1,426 @@
+package io.github.ZombieSurvival.Ecs;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.ZombieSurvival.Sprites.PoolMetrics;
+
+/**
+ * Stores every item in a row of chunks.
+ * Entities are addressed by a dense index across the chunks, so every chunk but the last
+ * is full and systems walk the component arrays from start to end without gaps.
+ * Killed entities are marked dead and dropped together by {@link #removeDead()},
+ * so indices stay valid for the rest of the tick. Emptied chunks are kept for later spawns,
+ * so the chunks act as the entity pool.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class EntityTable implements PoolMetrics {
+    private final Array<Chunk> chunks;
+    // Holds one entity while the depth sort moves the others past it
+    private final Chunk scratch;
+    private int size;
+    private int deadCount;
+    private boolean unsorted;
+    private long hits;
+    private long misses;
+    private int highWater;
+
+    /**
+     * Constructs an empty EntityTable.
+     */
+    public EntityTable() {
+        chunks = new Array<>(true, 4, Chunk.class);
+        scratch = new Chunk(1);
+        size = 0;
+        deadCount = 0;
+        unsorted = false;
+        hits = 0;
+        misses = 0;
+        highWater = 0;
+    }
+
+    /**
+     * Adds an entity with every component cleared to zero.
+     *
+     * @return the index of the new entity
+     */
+    public int add() {
+        final int chunkIndex = size >> Chunk.SHIFT;
+        if (chunkIndex == chunks.size) {
+            chunks.add(new Chunk());
+        }
+        // Only a slot an earlier entity held is reused
+        if (size < highWater) {
+            hits++;
+        } else {
+            misses++;
+        }
+        final Chunk chunk = chunks.items[chunkIndex];
+        chunk.reset(chunk.size);
+        chunk.size++;
+        highWater = Math.max(highWater, size + 1);
+        unsorted = true;
+        return size++;
+    }
+
+    /**
+     * Marks the entity at index for removal. It stays in place until removeDead is called.
+     *
+     * @param index an int
+     * @throws IndexOutOfBoundsException if index is not a stored entity
+     */
+    public void markDead(final int index) {
+        checkIndex(index);
+        final Chunk chunk = getChunkOf(index);
+        if (!chunk.dead[index & Chunk.SLOT_MASK]) {
+            chunk.dead[index & Chunk.SLOT_MASK] = true;
+            deadCount++;
+        }
+    }
+
+    /**
+     * Returns true if the entity at index is waiting to be removed.
+     *
+     * @param index an int
+     * @return dead as boolean
+     */
+    public boolean isDead(final int index) {
+        return getChunkOf(index).dead[index & Chunk.SLOT_MASK];
+    }
+
+    /**
+     * Drops every entity marked dead in one pass, keeping the order of the rest.
+     *
+     * @return the amount of entities dropped
+     */
+    public int removeDead() {
+        if (deadCount == 0) {
+            return 0;
+        }
+        int kept = 0;
+        for (int index = 0; index < size; index++) {
+            final Chunk chunk = getChunkOf(index);
+            final int slot = index & Chunk.SLOT_MASK;
+            if (chunk.dead[slot]) {
+                chunk.dead[slot] = false;
+            } else {
+                if (kept != index) {
+                    getChunkOf(kept).copy(chunk, slot, kept & Chunk.SLOT_MASK);
+                }
+                kept++;
+            }
+        }
+        final int removed = size - kept;
+        setSize(kept);
+        deadCount = 0;
+        return removed;
+    }
+
+    /**
+     * Remembers the current position of every entity, so drawing can interpolate towards
+     * the next and collisions can sweep the movement since.
+     */
+    public void savePreviousPositions() {
+        for (int chunkIndex = 0; chunkIndex < getChunkCount(); chunkIndex++) {
+            final Chunk chunk = chunks.items[chunkIndex];
+            System.arraycopy(chunk.x, 0, chunk.previousX, 0, chunk.size);
+            System.arraycopy(chunk.y, 0, chunk.previousY, 0, chunk.size);
+        }
+    }
+
+    /**
+     * Removes every entity, keeping the chunks for reuse.
+     */
+    public void clear() {
+        for (int index = 0; index < size; index++) {
+            getChunkOf(index).dead[index & Chunk.SLOT_MASK] = false;
+        }
+        setSize(0);
+        deadCount = 0;
+        unsorted = false;
+    }
+
+    /*
+     * Sets the amount of entities, filling every chunk before the last.
+     */
+    private void setSize(final int newSize) {
+        for (int chunkIndex = 0; chunkIndex < chunks.size; chunkIndex++) {
+            final int remaining = newSize - (chunkIndex << Chunk.SHIFT);
+            chunks.items[chunkIndex].size = Math.max(0, Math.min(Chunk.CAPACITY, remaining));
+        }
+        size = newSize;
+    }
+
+    /*
+     * Moves the entity at index towards the front, past every entity before it
+     * with a lower Y coordinate. Returns how many places it moved.
+     */
+    int moveForward(final int index) {
+        final Chunk chunk = getChunkOf(index);
+        final float y = chunk.y[index & Chunk.SLOT_MASK];
+        int current = index;
+        while (current > 0 && getChunkOf(current - 1).y[(current - 1) & Chunk.SLOT_MASK] < y) {
+            current--;
+        }
+        if (current == index) {
+            return 0;
+        }
+        scratch.copy(chunk, index & Chunk.SLOT_MASK, 0);
+        for (int shifted = index; shifted > current; shifted--) {
+            getChunkOf(shifted).copy(getChunkOf(shifted - 1), (shifted - 1) & Chunk.SLOT_MASK,
+                shifted & Chunk.SLOT_MASK);
+        }
+        getChunkOf(current).copy(scratch, 0, current & Chunk.SLOT_MASK);
+        return index - current;
+    }
+
+    /*
+     * Rearranges the entities so the one at sources[target] ends up at target,
+     * following each cycle of the rearrangement with one entity held aside.
+     * placed must hold at least size entries and is left cleared.
+     */
+    void rearrange(final int[] sources, final boolean[] placed) {
+        for (int start = 0; start < size; start++) {
+            if (placed[start] || sources[start] == start) {
+                placed[start] = false;
+                continue;
+            }
+            scratch.copy(getChunkOf(start), start & Chunk.SLOT_MASK, 0);
+            int target = start;
+            int source = sources[target];
+            while (source != start) {
+                getChunkOf(target).copy(getChunkOf(source), source & Chunk.SLOT_MASK,
+                    target & Chunk.SLOT_MASK);
+                placed[target] = true;
+                target = source;
+                source = sources[target];
+            }
+            getChunkOf(target).copy(scratch, 0, target & Chunk.SLOT_MASK);
+            placed[target] = true;
+            placed[start] = false;
+        }
+    }
+
+    /*
+     * Returns the chunk holding the entity at index.
+     */
+    Chunk getChunkOf(final int index) {
+        return chunks.items[index >> Chunk.SHIFT];
+    }
+
+    /*
+     * Returns the chunk at chunkIndex, for systems walking every entity.
+     */
+    Chunk getChunk(final int chunkIndex) {
+        return chunks.items[chunkIndex];
+    }
+
+    /*
+     * Returns the amount of chunks holding at least one entity.
+     */
+    int getChunkCount() {
+        return (size + Chunk.SLOT_MASK) >> Chunk.SHIFT;
+    }
+
+    /*
+     * Throws if index is not a stored entity.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Entity index " + index + " out of bounds.");
+        }
+    }
+
+    /**
+     * Returns the amount of stored entities, including ones marked dead.
+     *
+     * @return size as int
+     */
+    public int getSize() {
+        return size;
+    }
+    /**
+     * Returns true if an entity was added or moved along the Y axis since the last depth sort.
+     *
+     * @return unsorted as boolean
+     */
+    public boolean isUnsorted() {
+        return unsorted;
+    }
+    /**
+     * Sets whether the entities need to be depth sorted again.
+     *
+     * @param needsSort a boolean
+     */
+    public void setUnsorted(final boolean needsSort) {
+        unsorted = needsSort;
+    }
+    /**
+     * Returns the X coordinate of the entity at index.
+     *
+     * @param index an int
+     * @return x as float
+     */
+    public float getX(final int index) {
+        return getChunkOf(index).x[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Returns the Y coordinate of the entity at index.
+     *
+     * @param index an int
+     * @return y as float
+     */
+    public float getY(final int index) {
+        return getChunkOf(index).y[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Returns the X coordinate of the entity at index when previous positions were last saved.
+     *
+     * @param index an int
+     * @return the previous x as float
+     */
+    public float getPreviousX(final int index) {
+        return getChunkOf(index).previousX[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Returns the Y coordinate of the entity at index when previous positions were last saved.
+     *
+     * @param index an int
+     * @return the previous y as float
+     */
+    public float getPreviousY(final int index) {
+        return getChunkOf(index).previousY[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Places the entity at index, with no movement from its previous position.
+     *
+     * @param index an int
+     * @param x a float
+     * @param y a float
+     */
+    public void setPosition(final int index, final float x, final float y) {
+        final Chunk chunk = getChunkOf(index);
+        final int slot = index & Chunk.SLOT_MASK;
+        chunk.x[slot] = x;
+        chunk.y[slot] = y;
+        chunk.previousX[slot] = x;
+        chunk.previousY[slot] = y;
+        unsorted = true;
+    }
+    /**
+     * Sets the hit box of the entity at index, relative to its position.
+     *
+     * @param index an int
+     * @param offsetX a float
+     * @param offsetY a float
+     * @param width a float
+     * @param height a float
+     */
+    public void setHitBox(final int index, final float offsetX, final float offsetY,
+                          final float width, final float height) {
+        final Chunk chunk = getChunkOf(index);
+        final int slot = index & Chunk.SLOT_MASK;
+        chunk.hitBoxOffsetX[slot] = offsetX;
+        chunk.hitBoxOffsetY[slot] = offsetY;
+        chunk.hitBoxWidth[slot] = width;
+        chunk.hitBoxHeight[slot] = height;
+    }
+    /**
+     * Returns the index of the region drawn for the entity at index.
+     *
+     * @param index an int
+     * @return region as int
+     */
+    public int getRegion(final int index) {
+        return getChunkOf(index).regions[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Returns true if the entity at index is drawn mirrored.
+     *
+     * @param index an int
+     * @return flipX as boolean
+     */
+    public boolean isFlipX(final int index) {
+        return getChunkOf(index).flipX[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Sets the region drawn for the entity at index, and whether it is mirrored.
+     *
+     * @param index an int
+     * @param region an int, the index of the region to draw
+     * @param flip a boolean
+     * @throws IllegalArgumentException if region is not a short index
+     */
+    public void setRegion(final int index, final int region, final boolean flip) {
+        if (region < 0 || region > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Region index is out of range.");
+        }
+        final Chunk chunk = getChunkOf(index);
+        chunk.regions[index & Chunk.SLOT_MASK] = (short) region;
+        chunk.flipX[index & Chunk.SLOT_MASK] = flip;
+    }
+    /**
+     * Returns the index of the archetype of the entity at index.
+     *
+     * @param index an int
+     * @return archetype as int
+     */
+    public int getArchetype(final int index) {
+        return getChunkOf(index).archetypes[index & Chunk.SLOT_MASK];
+    }
+    /**
+     * Sets the index of the archetype of the entity at index.
+     *
+     * @param index an int
+     * @param archetype an int
+     * @throws IllegalArgumentException if archetype is not a short index
+     */
+    public void setArchetype(final int index, final int archetype) {
+        if (archetype < 0 || archetype > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Archetype index is out of range.");
+        }
+        getChunkOf(index).archetypes[index & Chunk.SLOT_MASK] = (short) archetype;
+    }
+    /**
+     * Returns the amount of entities added into a slot a removed entity held before.
+     *
+     * @return hits as long
+     */
+    @Override
+    public long getHits() {
+        return hits;
+    }
+    /**
+     * Returns the amount of entities added into a slot no entity held before.
+     *
+     * @return misses as long
+     */
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+    /**
+     * Returns the most entities that were stored at the same time.
+     *
+     * @return highWater as int
+     */
+    @Override
+    public int getHighWater() {
+        return highWater;
+    }
+
+    /**
+     * Returns a String representation of this EntityTable.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("EntityTable{");
+        builder.append("size=").append(size).append(", ");
+        builder.append("chunks=").append(chunks.size);
+        builder.append("}");
+        return builder.toString();
+    }
+}
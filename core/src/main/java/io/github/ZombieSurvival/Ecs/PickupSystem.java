@@ -0,0 +1,69 @@
+package io.github.ZombieSurvival.Ecs;
+
+import com.badlogic.gdx.utils.IntArray;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+import io.github.ZombieSurvival.Sprites.ItemArchetype;
+import io.github.ZombieSurvival.Sprites.Player;
+
+/**
+ * Gives the player the stat of every item it touched and marks those items dead.
+ * Items only store the index of their ItemArchetype, which holds the stat and amount.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class PickupSystem {
+    /**
+     * Applies every live item of the hits to the player and marks it dead.
+     *
+     * @param items an EntityTable
+     * @param hits an IntArray of item indices, such as from CollisionSystem
+     * @param archetypes the ArchetypeRegistry the item archetype indices refer to
+     * @param player a Player
+     * @return the amount of items picked up
+     * @throws IllegalArgumentException if an item's ItemType is not an expected option
+     */
+    public int pickUp(final EntityTable items, final IntArray hits,
+                      final ArchetypeRegistry archetypes, final Player player) {
+        int pickedUp = 0;
+        for (int index = 0; index < hits.size; index++) {
+            final int item = hits.get(index);
+            if (items.isDead(item)) {
+                continue;
+            }
+            increasePlayerStat(archetypes.getItem(items.getArchetype(item)), player);
+            items.markDead(item);
+            pickedUp++;
+        }
+        return pickedUp;
+    }
+
+    /*
+     * Increases the Player's stat, specified by the itemType, by increaseValue.
+     */
+    private void increasePlayerStat(final ItemArchetype archetype, final Player player) {
+        final int increaseValue = archetype.getIncreaseValue();
+        switch (archetype.getItemType()) {
+            case HP:
+                player.modifyCurrentHP(increaseValue);
+                break;
+            case STAMINA:
+                player.modifyCurrentStamina(increaseValue);
+                break;
+            case SCORE:
+                player.modifyCurrentScore(increaseValue);
+                break;
+            default: throw new IllegalArgumentException("Not a valid itemType");
+        }
+    }
+
+    /**
+     * Returns a String representation of this PickupSystem.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        return "PickupSystem{}";
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.ZombieSurvival.Logic;
+
+import java.util.Arrays;
+
+/**
+ * A grid of directions leading every cell to the cell of a target along the shortest path.
+ * Distances are found with a breadth first search out from the target, moving in eight
+ * directions and never cutting the corner of a blocked cell, so steering an entity is a
+ * single lookup however many entities follow the field.
+ * The field is only searched again when the target changes cell or a cell is blocked or opened.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class FlowField {
+    private static final int UNREACHABLE = -1;
+
+    private final float minX;
+    private final float minY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final boolean[] blocked;
+    // Steps from each cell to the target cell, UNREACHABLE when there is no path
+    private final int[] distances;
+    // Direction of each cell towards the target, each -1, 0 or 1
+    private final byte[] directionsX;
+    private final byte[] directionsY;
+    // Cells waiting to be expanded by the search
+    private final int[] queue;
+    private int targetCell;
+    private boolean outdated;
+    private int rebuilds;
+
+    /**
+     * Constructs a FlowField covering the specified area with no blocked cells.
+     *
+     * @param minX a float
+     * @param minY a float
+     * @param maxX a float
+     * @param maxY a float
+     * @param cellSize a float
+     * @throws IllegalArgumentException if the area is empty or cellSize is not positive
+     */
+    public FlowField(final float minX, final float minY, final float maxX, final float maxY,
+                     final float cellSize) {
+        if (maxX <= minX || maxY <= minY) {
+            throw new IllegalArgumentException("Field area cannot be empty.");
+        }
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be larger then 0.");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil((maxX - minX) / cellSize);
+        this.rows = (int) Math.ceil((maxY - minY) / cellSize);
+        final int cells = columns * rows;
+        blocked = new boolean[cells];
+        distances = new int[cells];
+        directionsX = new byte[cells];
+        directionsY = new byte[cells];
+        queue = new int[cells];
+        targetCell = -1;
+        outdated = true;
+        rebuilds = 0;
+    }
+
+    /**
+     * Blocks or opens the cell, so paths lead around it.
+     * The field is searched again on the next update.
+     *
+     * @param column an int
+     * @param row an int
+     * @param isBlocked a boolean
+     * @throws IllegalArgumentException if the cell is outside the field
+     */
+    public void setBlocked(final int column, final int row, final boolean isBlocked) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Cell is outside the field.");
+        }
+        final int cell = row * columns + column;
+        if (blocked[cell] != isBlocked) {
+            blocked[cell] = isBlocked;
+            outdated = true;
+        }
+    }
+
+    /**
+     * Leads the field to the cell containing the target position.
+     * Only searches the field if the target changed cell or a cell was blocked or opened.
+     * Positions outside the field are clamped into the border cells.
+     *
+     * @param targetX a float
+     * @param targetY a float
+     * @return true if the field was searched again, otherwise false
+     */
+    public boolean update(final float targetX, final float targetY) {
+        final int cell = getRow(targetY) * columns + getColumn(targetX);
+        if (cell == targetCell && !outdated) {
+            return false;
+        }
+        targetCell = cell;
+        outdated = false;
+        search();
+        assignDirections();
+        rebuilds++;
+        return true;
+    }
+
+    /**
+     * Returns true if the position is in the cell of the target, where the field gives
+     * no direction and entities steer straight at the target instead.
+     *
+     * @param x a float
+     * @param y a float
+     * @return true if in the target cell, otherwise false
+     */
+    public boolean isInTargetCell(final float x, final float y) {
+        return getRow(y) * columns + getColumn(x) == targetCell;
+    }
+
+    /**
+     * Returns the horizontal direction towards the target from the cell containing the position.
+     *
+     * @param x a float
+     * @param y a float
+     * @return -1 for left, 1 for right or 0 for neither
+     */
+    public int getDirectionX(final float x, final float y) {
+        return directionsX[getRow(y) * columns + getColumn(x)];
+    }
+    /**
+     * Returns the vertical direction towards the target from the cell containing the position.
+     *
+     * @param x a float
+     * @param y a float
+     * @return -1 for down, 1 for up or 0 for neither
+     */
+    public int getDirectionY(final float x, final float y) {
+        return directionsY[getRow(y) * columns + getColumn(x)];
+    }
+
+    /**
+     * Returns the amount of columns in this field.
+     *
+     * @return columns as int
+     */
+    public int getColumns() {
+        return columns;
+    }
+    /**
+     * Returns the amount of rows in this field.
+     *
+     * @return rows as int
+     */
+    public int getRows() {
+        return rows;
+    }
+    /**
+     * Returns the amount of times the field was searched.
+     *
+     * @return rebuilds as int
+     */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    /*
+     * Fills distances with the steps from every cell to the target cell.
+     */
+    private void search() {
+        Arrays.fill(distances, UNREACHABLE);
+        distances[targetCell] = 0;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            final int cell = queue[head++];
+            final int column = cell % columns;
+            final int row = cell / columns;
+            for (int stepY = -1; stepY <= 1; stepY++) {
+                for (int stepX = -1; stepX <= 1; stepX++) {
+                    if (!canStep(column, row, stepX, stepY)) {
+                        continue;
+                    }
+                    final int neighbour = cell + stepY * columns + stepX;
+                    if (distances[neighbour] == UNREACHABLE) {
+                        distances[neighbour] = distances[cell] + 1;
+                        queue[tail++] = neighbour;
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Points every reachable cell at its neighbour closest to the target.
+     * The neighbour straight towards the target wins ties, so an open field
+     * steers the same way as chasing the target directly.
+     */
+    private void assignDirections() {
+        final int targetColumn = targetCell % columns;
+        final int targetRow = targetCell / columns;
+        for (int cell = 0; cell < distances.length; cell++) {
+            directionsX[cell] = 0;
+            directionsY[cell] = 0;
+            if (distances[cell] <= 0) {
+                continue;
+            }
+            final int column = cell % columns;
+            final int row = cell / columns;
+            final int preferredX = Integer.signum(targetColumn - column);
+            final int preferredY = Integer.signum(targetRow - row);
+            int bestX = 0;
+            int bestY = 0;
+            int bestDistance = distances[cell];
+            if (canStep(column, row, preferredX, preferredY)) {
+                bestX = preferredX;
+                bestY = preferredY;
+                bestDistance = distances[cell + preferredY * columns + preferredX];
+            }
+            for (int stepY = -1; stepY <= 1; stepY++) {
+                for (int stepX = -1; stepX <= 1; stepX++) {
+                    if (!canStep(column, row, stepX, stepY)) {
+                        continue;
+                    }
+                    final int distance = distances[cell + stepY * columns + stepX];
+                    if (distance != UNREACHABLE && distance < bestDistance) {
+                        bestX = stepX;
+                        bestY = stepY;
+                        bestDistance = distance;
+                    }
+                }
+            }
+            directionsX[cell] = (byte) bestX;
+            directionsY[cell] = (byte) bestY;
+        }
+    }
+
+    /*
+     * Returns true if the step leads from the cell to an open cell inside the field,
+     * without cutting the corner of a blocked cell.
+     */
+    private boolean canStep(final int column, final int row, final int stepX, final int stepY) {
+        if (stepX == 0 && stepY == 0) {
+            return false;
+        }
+        final int nextColumn = column + stepX;
+        final int nextRow = row + stepY;
+        if (nextColumn < 0 || nextColumn >= columns || nextRow < 0 || nextRow >= rows) {
+            return false;
+        }
+        if (blocked[nextRow * columns + nextColumn]) {
+            return false;
+        }
+        return stepX == 0 || stepY == 0
+            || (!blocked[row * columns + nextColumn] && !blocked[nextRow * columns + column]);
+    }
+
+    /*
+     * Returns the column containing x, clamped into the field.
+     */
+    private int getColumn(final float x) {
+        return Math.max(0, Math.min(columns - 1, (int) ((x - minX) / cellSize)));
+    }
+    /*
+     * Returns the row containing y, clamped into the field.
+     */
+    private int getRow(final float y) {
+        return Math.max(0, Math.min(rows - 1, (int) ((y - minY) / cellSize)));
+    }
+
+    /**
+     * Returns a String representation of this FlowField.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("FlowField{");
+        builder.append("columns=").append(columns).append(", ");
+        builder.append("rows=").append(rows).append(", ");
+        builder.append("targetCell=").append(targetCell).append(", ");
+        builder.append("rebuilds=").append(rebuilds);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * How the enemies of one wave spawn relative to each other.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public enum Formation {
+    /**
+     * Each enemy at its own random spot on the platform.
+     */
+    SCATTER,
+    /**
+     * Evenly spaced on a circle around where the player stood when the wave started.
+     */
+    RING,
+    /**
+     * Evenly spaced across the platform at one random height.
+     */
+    LINE,
+    /**
+     * Bunched around one random spot on the platform.
+     */
+    CLUSTER
+}
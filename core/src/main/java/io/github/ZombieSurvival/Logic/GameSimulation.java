@@ -0,0 +1,1019 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.ZombieSurvival.Ecs.CollisionSystem;
+import io.github.ZombieSurvival.Ecs.DepthSortSystem;
+import io.github.ZombieSurvival.Ecs.EntityTable;
+import io.github.ZombieSurvival.Ecs.PickupSystem;
+import io.github.ZombieSurvival.Profiling.FrameProfiler;
+import io.github.ZombieSurvival.RotNRun;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import io.github.ZombieSurvival.Sprites.EnemyStore;
+import io.github.ZombieSurvival.Sprites.Entity;
+import io.github.ZombieSurvival.Sprites.Generate;
+import io.github.ZombieSurvival.Sprites.Player;
+
+/**
+ * The gameplay of a single run, advanced on a fixed timestep.
+ * Holds no textures and never reads Gdx input or timing, so it can run without a window.
+ * Every spawn is rolled from the run's own seeded generator, so two simulations with the
+ * same seed and input see the same enemies and items.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class GameSimulation {
+    /**
+     * Length of one simulation tick in seconds.
+     */
+    public static final float TICK_LENGTH = 1f / 60f;
+    /**
+     * Width of the player and enemy sprites.
+     */
+    public static final float SPRITE_WIDTH = 80f;
+    /**
+     * Height of the player and enemy sprites.
+     */
+    public static final float SPRITE_HEIGHT = 1.5f * SPRITE_WIDTH;
+    /**
+     * Width and height of item sprites.
+     */
+    public static final float ITEM_SPRITE_LENGTH = 65f;
+    /**
+     * Width of the platform.
+     */
+    public static final float PLATFORM_WIDTH = 9f * 150f;
+    /**
+     * Height of the platform.
+     */
+    public static final float PLATFORM_HEIGHT = 7f * 150f;
+    /**
+     * Radius of the player's ability.
+     */
+    public static final float ABILITY_RADIUS = 150f;
+    /*
+     * Longest frame that is simulated, so a stall does not cause a burst of catch up ticks.
+     */
+    private static final float MAX_FRAME_LENGTH = 0.25f;
+    // Kinds of the timers scheduled on the timing wheel, and the target of player timers
+    private static final int TIMER_STAMINA_DECREASE = 0;
+    private static final int TIMER_ABILITY_CHARGE = 1;
+    private static final int TIMER_ABILITY_COOLDOWN = 2;
+    private static final int TIMER_INVINCIBILITY = 3;
+    private static final int PLAYER_TARGET = -1;
+
+    // Sprite
+    private final float spriteHitBoxInset = 10f;
+    // Item Sprite
+    private final float itemSpriteHitBoxInset = 0f;
+    // Platform
+    private final float platformX = (RotNRun.VIRTUAL_WIDTH / 2f) - (PLATFORM_WIDTH / 2f);
+    // Platform play area
+    private final float platformAreaPadding = 20f;
+    private final float platformAreaX = platformX + platformAreaPadding;
+    private final float platformAreaMaxX = platformX + PLATFORM_WIDTH
+                                                - SPRITE_WIDTH - platformAreaPadding;
+    private final float platformAreaY = 150f + platformAreaPadding;
+    private final float platformAreaMaxY = PLATFORM_HEIGHT - SPRITE_HEIGHT
+                                                + platformAreaPadding;
+    // Player movement speed
+    private final float playerSpeed = 300f;
+    // Collision grid cell size
+    private final float collisionCellSize = 128f;
+    // Flow field cell size, finer than the collision grid so steering follows the player closely
+    private final float flowFieldCellSize = 64f;
+    // Spawn rolls, never shared with another run
+    private final long seed;
+    private final RandomXS128 random;
+    // Kinds of enemies and items, with stats scaled for the difficulty
+    private final ArchetypeRegistry archetypes;
+    // Player
+    private final Difficulty gameDifficulty;
+    private final Player playerSprite;
+    private final Rectangle playerHitBox;
+    private final Circle playerAbility;
+    private float previousPlayerX;
+    private float previousPlayerY;
+    // Enemy
+    private final EnemyStore enemies;
+    private final Rectangle enemyHitBox;
+    // Items, stored by component and drawn by the index of their archetype
+    private final EntityTable items;
+    private final CollisionSystem collisionSystem;
+    private final PickupSystem pickupSystem;
+    private final DepthSortSystem depthSortSystem;
+    // Collision
+    private boolean useSpatialGrid;
+    private final SpatialGrid enemyGrid;
+    private final SpatialGrid itemGrid;
+    private final IntArray collisionCandidates;
+    private boolean itemGridOutdated;
+    // Steering
+    private final FlowField flowField;
+    // Enemy update split across threads for large waves, or null to stay on one thread
+    private ParallelEnemyUpdate parallelEnemyUpdate;
+    private final IntArray enemyKills;
+    // Times the phases of each tick, or null
+    private FrameProfiler profiler;
+    // Timers
+    private float accumulator;
+    private long tickCount;
+    private final TimingWheel timers;
+    private int abilityChargeTimer;
+    private boolean abilityActivated;
+    private boolean playerIsInvincible;
+    // Spawning
+    private final SpawnDirector spawnDirector;
+
+    /**
+     * Constructs a GameSimulation for a new run on the specified difficulty,
+     * spawning the default waves from the specified seed.
+     *
+     * @param difficulty a Difficulty
+     * @param seed a long
+     * @throws IllegalArgumentException if difficulty is null
+     */
+    public GameSimulation(final Difficulty difficulty, final long seed) {
+        this(difficulty, seed, WaveTable.getDefault());
+    }
+
+    /**
+     * Constructs a GameSimulation for a new run on the specified difficulty,
+     * spawning the waves of the table from the specified seed.
+     * Enemies and items are the table's archetypes, scaled for the difficulty.
+     *
+     * @param difficulty a Difficulty
+     * @param seed a long
+     * @param waves a WaveTable
+     * @throws IllegalArgumentException if difficulty or waves is null
+     */
+    public GameSimulation(final Difficulty difficulty, final long seed, final WaveTable waves) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null.");
+        }
+        if (waves == null) {
+            throw new IllegalArgumentException("There are no waves to spawn.");
+        }
+        this.seed = seed;
+        random = new RandomXS128(seed);
+        archetypes = waves.getArchetypes().forDifficulty(difficulty);
+        // Player
+        gameDifficulty = difficulty;
+        playerSprite = Generate.createPlayer(gameDifficulty);
+        playerSprite.setSize(SPRITE_WIDTH, SPRITE_HEIGHT);
+        playerSprite.setCenter((RotNRun.VIRTUAL_WIDTH / 2f), (RotNRun.VIRTUAL_HEIGHT / 2f));
+        previousPlayerX = playerSprite.getX();
+        previousPlayerY = playerSprite.getY();
+        playerHitBox = new Rectangle();
+        playerHitBox.setWidth(SPRITE_WIDTH - (spriteHitBoxInset * 2));
+        playerHitBox.setHeight(SPRITE_HEIGHT - (spriteHitBoxInset * 2));
+        playerAbility = new Circle();
+        playerAbility.setRadius(ABILITY_RADIUS);
+        // Enemies
+        final int enemyCapacity = 64;
+        enemies = new EnemyStore(archetypes, enemyCapacity);
+        enemyHitBox = new Rectangle();
+        enemyHitBox.setWidth(SPRITE_WIDTH - (spriteHitBoxInset * 2));
+        enemyHitBox.setHeight(SPRITE_HEIGHT - (spriteHitBoxInset * 2));
+        // Items
+        items = new EntityTable();
+        collisionSystem = new CollisionSystem();
+        pickupSystem = new PickupSystem();
+        depthSortSystem = new DepthSortSystem();
+        // Collision
+        useSpatialGrid = true;
+        enemyGrid = new SpatialGrid(platformAreaX, platformAreaY,
+            platformAreaMaxX + SPRITE_WIDTH, platformAreaMaxY + SPRITE_HEIGHT,
+            collisionCellSize, SPRITE_WIDTH, SPRITE_HEIGHT);
+        itemGrid = new SpatialGrid(platformAreaX, platformAreaY,
+            platformAreaMaxX + ITEM_SPRITE_LENGTH, platformAreaMaxY + ITEM_SPRITE_LENGTH,
+            collisionCellSize, ITEM_SPRITE_LENGTH, ITEM_SPRITE_LENGTH);
+        collisionCandidates = new IntArray();
+        itemGridOutdated = true;
+        // Steering
+        flowField = new FlowField(platformAreaX, platformAreaY,
+            platformAreaMaxX + SPRITE_WIDTH, platformAreaMaxY + SPRITE_HEIGHT,
+            flowFieldCellSize);
+        // A single core would only pay for scheduling the chunks
+        parallelEnemyUpdate = Runtime.getRuntime().availableProcessors() > 1
+            ? new ParallelEnemyUpdate(this) : null;
+        enemyKills = new IntArray();
+        profiler = null;
+        // Timers
+        accumulator = 0;
+        tickCount = 0;
+        timers = new TimingWheel(this::onTimer);
+        timers.scheduleRepeating(secondsToTicks(1f), secondsToTicks(1f),
+            TIMER_STAMINA_DECREASE, PLAYER_TARGET);
+        abilityChargeTimer = scheduleAbilityCharge();
+        abilityActivated = false;
+        playerIsInvincible = false;
+        // Spawning
+        spawnDirector = new SpawnDirector(waves, random,
+            platformAreaX, platformAreaY, platformAreaMaxX, platformAreaMaxY);
+    }
+
+    /**
+     * Adds delta to the time bank and runs as many fixed ticks as fit in it.
+     * The remainder is kept for the next call and is used to interpolate drawing.
+     *
+     * @param delta a float of seconds since the last call
+     * @param input an InputCommand held for every tick run
+     * @return the amount of ticks run
+     */
+    public int advance(final float delta, final InputCommand input) {
+        final int dueTicks = takeDueTicks(delta);
+        int ticks = 0;
+        while (ticks < dueTicks && !isFinished()) {
+            tick(input);
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Adds delta to the time bank and takes out as many whole ticks as fit in it,
+     * for callers that supply a different input to each tick.
+     *
+     * @param delta a float of seconds since the last call
+     * @return the amount of ticks due
+     */
+    public int takeDueTicks(final float delta) {
+        accumulator += Math.min(delta, MAX_FRAME_LENGTH);
+        int ticks = 0;
+        while (accumulator >= TICK_LENGTH) {
+            accumulator -= TICK_LENGTH;
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Runs one fixed tick of gameplay.
+     *
+     * @param input an InputCommand
+     */
+    public void tick(final InputCommand input) {
+        previousPlayerX = playerSprite.getX();
+        previousPlayerY = playerSprite.getY();
+        enemies.savePreviousPositions();
+        items.savePreviousPositions();
+        // Expires the timers due this tick
+        long phaseStart = startPhase();
+        timers.tick();
+        phaseStart = endPhase(FrameProfiler.TIMERS, phaseStart);
+        spawnDirector.tick(this);
+        phaseStart = endPhase(FrameProfiler.SPAWN, phaseStart);
+        // Apply inputs
+        inputAll(input);
+        // Run logic
+        logicAll();
+        removeDeadEntities();
+        sortByDepth();
+        endPhase(FrameProfiler.LOGIC, phaseStart);
+        tickCount++;
+    }
+
+    /**
+     * Times the phases of every tick into the profiler.
+     *
+     * @param frameProfiler a FrameProfiler, or null to stop timing
+     */
+    public void setProfiler(final FrameProfiler frameProfiler) {
+        profiler = frameProfiler;
+    }
+
+    /*
+     * Returns the start time of a phase, or 0 if not profiling.
+     */
+    private long startPhase() {
+        return profiler == null ? 0 : profiler.startPhase();
+    }
+
+    /*
+     * Adds the phase's time to the profiler and returns the start of the next phase.
+     */
+    private long endPhase(final int phase, final long start) {
+        return profiler == null ? 0 : profiler.endPhase(phase, start);
+    }
+
+    /*
+     * Returns the whole ticks closest to the seconds.
+     */
+    private static int secondsToTicks(final float seconds) {
+        return Math.round(seconds / TICK_LENGTH);
+    }
+
+    /*
+     * Schedules the ability to charge every half second until it is used.
+     */
+    private int scheduleAbilityCharge() {
+        final int chargeTicks = secondsToTicks(0.5f);
+        return timers.scheduleRepeating(chargeTicks, chargeTicks,
+            TIMER_ABILITY_CHARGE, PLAYER_TARGET);
+    }
+
+    /*
+     * Applies a timer that has expired.
+     */
+    private void onTimer(final int kind, final int target) {
+        switch (kind) {
+            case TIMER_STAMINA_DECREASE:
+                playerSprite.modifyCurrentStamina(-1);
+                break;
+            case TIMER_ABILITY_CHARGE:
+                playerSprite.increaseCurrentCharge();
+                break;
+            case TIMER_ABILITY_COOLDOWN:
+                abilityActivated = false;
+                abilityChargeTimer = scheduleAbilityCharge();
+                break;
+            case TIMER_INVINCIBILITY:
+                playerIsInvincible = false;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Creates a new Enemy at a random location and stores it in enemies.
+     */
+    public void createEnemy() {
+        // Randomize spawn location
+        final float x = randomFloat(platformAreaX, platformAreaMaxX);
+        final float y = randomFloat(platformAreaY, platformAreaMaxY);
+        createRandomEnemy(x, y);
+    }
+
+    /*
+     * Adds an enemy of the archetype at the position, for the spawn director.
+     */
+    void spawnEnemy(final int archetype, final float x, final float y) {
+        Generate.createEnemy(enemies, archetype, x, y);
+    }
+
+    /**
+     * Creates a new item of a random archetype at a random location and stores it in items.
+     */
+    public void createItem() {
+        final int archetype = chooseRandomItem();
+        final int item = items.add();
+        // Randomize spawn location
+        final float x = randomFloat(platformAreaX, platformAreaMaxX);
+        items.setPosition(item, x, randomFloat(platformAreaY, platformAreaMaxY));
+        items.setHitBox(item, itemSpriteHitBoxInset, itemSpriteHitBoxInset,
+            ITEM_SPRITE_LENGTH - (itemSpriteHitBoxInset * 2),
+            ITEM_SPRITE_LENGTH - (itemSpriteHitBoxInset * 2));
+        items.setRegion(item, archetype, false);
+        items.setArchetype(item, archetype);
+        itemGridOutdated = true;
+    }
+
+    /*
+     * Returns a random float from start to end, from the run's generator.
+     */
+    private float randomFloat(final float start, final float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+
+    /*
+     * Selects an enemy archetype by spawn weight and adds it at the specified position.
+     */
+    private void createRandomEnemy(final float x, final float y) {
+        final int archetype =
+            archetypes.rollEnemy(random.nextInt(archetypes.getTotalEnemyWeight()));
+        Generate.createEnemy(enemies, archetype, x, y);
+    }
+
+    /*
+     * Selects an item archetype by spawn weight and returns its index.
+     */
+    private int chooseRandomItem() {
+        return archetypes.rollItem(random.nextInt(archetypes.getTotalItemWeight()));
+    }
+
+    /*
+     * Applies all types of input.
+     */
+    private void inputAll(final InputCommand input) {
+        playerSprite.setX(MathUtils.clamp(playerSprite.getX(),
+            platformAreaX, platformAreaMaxX));
+        playerSprite.setY(MathUtils.clamp(playerSprite.getY(),
+            platformAreaY, platformAreaMaxY));
+        if (input.isTouched()) {
+            inputMovementTouch(input);
+        }
+        inputMovementKeys(input);
+    }
+
+    /*
+     * Applies movement towards the touched position.
+     */
+    private void inputMovementTouch(final InputCommand input) {
+        final float step = playerSpeed * TICK_LENGTH;
+        if (playerSprite.getX() > input.getTouchX()) {
+            playerSprite.translateX(-step);
+            if (playerSprite.isFlipX()) {
+                playerSprite.flip(true, false);
+            }
+        }
+        if (playerSprite.getX() < input.getTouchX()) {
+            playerSprite.translateX(step);
+            if (!playerSprite.isFlipX()) {
+                playerSprite.flip(true, false);
+            }
+        }
+
+        if (playerSprite.getY() > input.getTouchY()) {
+            playerSprite.translateY(-step);
+        }
+        if (playerSprite.getY() < input.getTouchY()) {
+            playerSprite.translateY(step);
+        }
+    }
+
+    /*
+     * Applies movement and ability keys.
+     */
+    private void inputMovementKeys(final InputCommand input) {
+        final float step = playerSpeed * TICK_LENGTH;
+        if (input.isKeyPressed(InputCommand.RIGHT)) {
+            playerSprite.translateX(step);
+            if (!playerSprite.isFlipX()) {
+                playerSprite.flip(true, false);
+            }
+        }
+        if (input.isKeyPressed(InputCommand.LEFT)) {
+            playerSprite.translateX(-step);
+            if (playerSprite.isFlipX()) {
+                playerSprite.flip(true, false);
+            }
+        }
+        if (input.isKeyPressed(InputCommand.DOWN)) {
+            playerSprite.translateY(-step);
+        }
+        if (input.isKeyPressed(InputCommand.UP)) {
+            playerSprite.translateY(step);
+        }
+        if (input.isKeyPressed(InputCommand.ABILITY) && playerSprite.getIsCharged()) {
+            playerSprite.useAbility();
+            // The ability does not charge while it is active
+            timers.cancel(abilityChargeTimer);
+            abilityChargeTimer = TimingWheel.NO_TIMER;
+            abilityActivated = true;
+            timers.schedule(secondsToTicks(1.5f), TIMER_ABILITY_COOLDOWN, PLAYER_TARGET);
+        }
+    }
+
+    /*
+     * Update hit box position.
+     */
+    private void updateEntityHitBoxCoordinates(final Rectangle entityHitBox, final Entity entity,
+                                               final float insetValue) {
+        entityHitBox.setPosition(entity.getX() + insetValue, entity.getY() + insetValue);
+    }
+
+
+
+    /*
+     * Runs all logic.
+     */
+    private void logicAll() {
+        logicEnemies();
+        logicItemPickup();
+    }
+
+    /*
+     * Runs enemy movement and hit box logic, on several threads for large waves.
+     */
+    void logicEnemies() {
+        if (parallelEnemyUpdate != null
+            && enemies.getSize() >= ParallelEnemyUpdate.SERIAL_THRESHOLD) {
+            logicEnemiesParallel();
+        } else {
+            logicEnemyMovement();
+            logicEnemyHitBox();
+        }
+    }
+
+    /*
+     * Runs enemy movement logic.
+     * Enemies follow the flow field to the player's cell, then chase the player directly.
+     */
+    void logicEnemyMovement() {
+        final float playerX = playerSprite.getX();
+        final float playerY = playerSprite.getY();
+        flowField.update(playerX, playerY);
+        for (int index = 0; index < enemies.getSize(); index++) {
+            moveEnemy(index, playerX, playerY);
+        }
+        enemies.markUnsorted();
+    }
+
+    /*
+     * Moves the enemy at index one step along the flow field, which must be up to date.
+     */
+    private void moveEnemy(final int index, final float playerX, final float playerY) {
+        final float step = enemies.getSpeed(index) * TICK_LENGTH;
+        final float x = enemies.getX(index);
+        final float y = enemies.getY(index);
+        if (flowField.isInTargetCell(x, y)) {
+            chasePlayer(index, x, y, playerX, playerY, step);
+            return;
+        }
+        final int directionX = flowField.getDirectionX(x, y);
+        if (directionX != 0) {
+            enemies.setFlipX(index, directionX > 0);
+        }
+        enemies.translate(index, directionX * step, flowField.getDirectionY(x, y) * step);
+    }
+
+    /*
+     * Moves the enemy one step straight towards the player.
+     */
+    private void chasePlayer(final int index, final float x, final float y,
+                             final float playerX, final float playerY, final float step) {
+        float moveX = 0;
+        float moveY = 0;
+        if (x + spriteHitBoxInset > playerX) {
+            moveX -= step;
+            enemies.setFlipX(index, false);
+        }
+        if (x - spriteHitBoxInset < playerX) {
+            moveX += step;
+            enemies.setFlipX(index, true);
+        }
+
+        if (y + spriteHitBoxInset > playerY) {
+            moveY -= step;
+        }
+        if (y - spriteHitBoxInset < playerY) {
+            moveY += step;
+        }
+        enemies.translate(index, moveX, moveY);
+    }
+
+    /*
+     * Runs logic that are affected by the enemy hit box.
+     */
+    void logicEnemyHitBox() {
+        updateEntityHitBoxCoordinates(playerHitBox, playerSprite, spriteHitBoxInset);
+        // Only rebuild the grid on ticks that query it
+        if (useSpatialGrid && (abilityActivated || !playerIsInvincible)) {
+            rebuildEnemyGrid();
+        }
+        if (abilityActivated) {
+            playerAbility.setPosition(playerSprite.getX() + (SPRITE_WIDTH / 2),
+                playerSprite.getY() + (SPRITE_HEIGHT / 2));
+            findSweptEnemyCandidates(playerAbility.x - ABILITY_RADIUS,
+                playerAbility.y - ABILITY_RADIUS, ABILITY_RADIUS * 2, ABILITY_RADIUS * 2);
+            for (int index = 0; index < collisionCandidates.size; index++) {
+                final int enemyIndex = collisionCandidates.get(index);
+                if (abilityHitsEnemy(enemyIndex, enemyHitBox)) {
+                    enemies.markDead(enemyIndex);
+                }
+            }
+        }
+        if (!playerIsInvincible) {
+            findSweptEnemyCandidates(playerHitBox.x, playerHitBox.y,
+                playerHitBox.width, playerHitBox.height);
+            // The earliest spawned enemy hits, the same enemy the parallel update picks
+            int hitIndex = -1;
+            for (int index = 0; index < collisionCandidates.size; index++) {
+                final int enemyIndex = collisionCandidates.get(index);
+                if (enemies.isDead(enemyIndex)
+                    || earlierSpawned(hitIndex, enemyIndex) == hitIndex) {
+                    continue;
+                }
+                if (enemyHitsPlayer(enemyIndex, enemyHitBox)) {
+                    hitIndex = enemyIndex;
+                }
+            }
+            hitPlayer(hitIndex);
+        }
+    }
+
+    /*
+     * Returns whichever of the two enemy indices spawned first, where -1 is no enemy.
+     * Picking by spawn rather than by index keeps the hit the same however enemies are ordered.
+     */
+    int earlierSpawned(final int first, final int second) {
+        if (first == -1) {
+            return second;
+        }
+        if (second == -1) {
+            return first;
+        }
+        return enemies.getSpawnId(second) < enemies.getSpawnId(first) ? second : first;
+    }
+
+    /*
+     * Returns true if the ability touched the enemy at index at any point this tick,
+     * sweeping the ability back along its movement relative to the enemy.
+     * Moves hitBox to the enemy.
+     */
+    private boolean abilityHitsEnemy(final int index, final Rectangle hitBox) {
+        updateEnemyHitBoxCoordinates(index, hitBox);
+        return SweptCollision.overlaps(playerAbility,
+            getEnemyMoveX(index) - getPlayerMoveX(), getEnemyMoveY(index) - getPlayerMoveY(),
+            hitBox);
+    }
+
+    /*
+     * Returns true if the enemy at index touched the player at any point this tick,
+     * sweeping its hit box back along its movement relative to the player.
+     * Moves hitBox to the enemy.
+     */
+    private boolean enemyHitsPlayer(final int index, final Rectangle hitBox) {
+        updateEnemyHitBoxCoordinates(index, hitBox);
+        return SweptCollision.overlaps(hitBox,
+            getPlayerMoveX() - getEnemyMoveX(index), getPlayerMoveY() - getEnemyMoveY(index),
+            playerHitBox);
+    }
+
+    /*
+     * Fills collisionCandidates with enemies that could have crossed the area this tick,
+     * widened by how far the player and any enemy can move in a tick.
+     */
+    private void findSweptEnemyCandidates(final float x, final float y,
+                                          final float width, final float height) {
+        final float reach = enemies.getMaxSpeed() * TICK_LENGTH;
+        final float playerMoveX = getPlayerMoveX();
+        final float playerMoveY = getPlayerMoveY();
+        findCandidates(enemyGrid, enemies.getSize(),
+            x - reach - Math.max(playerMoveX, 0), y - reach - Math.max(playerMoveY, 0),
+            width + reach * 2 + Math.abs(playerMoveX), height + reach * 2 + Math.abs(playerMoveY));
+    }
+
+    /*
+     * Moves and tests every enemy in chunks on several threads, then applies the kills
+     * and the hit on this thread. Plays out the same as the serial movement and hit box logic.
+     */
+    private void logicEnemiesParallel() {
+        flowField.update(playerSprite.getX(), playerSprite.getY());
+        updateEntityHitBoxCoordinates(playerHitBox, playerSprite, spriteHitBoxInset);
+        playerAbility.setPosition(playerSprite.getX() + (SPRITE_WIDTH / 2),
+            playerSprite.getY() + (SPRITE_HEIGHT / 2));
+        final int hitIndex = parallelEnemyUpdate.run(enemies.getSize(), enemyKills);
+        // Set once the chunks are joined, since they only write to their own enemies
+        enemies.markUnsorted();
+        for (int index = 0; index < enemyKills.size; index++) {
+            enemies.markDead(enemyKills.get(index));
+        }
+        if (!playerIsInvincible) {
+            hitPlayer(hitIndex);
+        }
+    }
+
+    /*
+     * Moves the enemies from start up to end, then tests each against the ability and player.
+     * Adds the killed enemies to kills and returns the earliest spawned enemy hitting the player,
+     * or -1. Only writes to enemies in the range, hitBox and kills, so disjoint ranges can run
+     * at once.
+     */
+    int updateEnemyRange(final int start, final int end, final Rectangle hitBox,
+                         final IntArray kills) {
+        final float playerX = playerSprite.getX();
+        final float playerY = playerSprite.getY();
+        hitBox.setSize(enemyHitBox.width, enemyHitBox.height);
+        int hitIndex = -1;
+        for (int index = start; index < end; index++) {
+            moveEnemy(index, playerX, playerY);
+            if (abilityActivated && abilityHitsEnemy(index, hitBox)) {
+                kills.add(index);
+            } else if (!playerIsInvincible && earlierSpawned(hitIndex, index) == index
+                && enemyHitsPlayer(index, hitBox)) {
+                hitIndex = index;
+            }
+        }
+        return hitIndex;
+    }
+
+    /*
+     * Lets the enemy at index attack the player, who turns invincible. Does nothing for -1.
+     */
+    private void hitPlayer(final int enemyIndex) {
+        if (enemyIndex != -1) {
+            enemies.attackPlayer(enemyIndex, playerSprite);
+            playerIsInvincible = true;
+            timers.schedule(secondsToTicks(3f), TIMER_INVINCIBILITY, PLAYER_TARGET);
+        }
+    }
+
+    /*
+     * Run Item pickup logic.
+     */
+    void logicItemPickup() {
+        updateEntityHitBoxCoordinates(playerHitBox, playerSprite, spriteHitBoxInset);
+        final float playerMoveX = getPlayerMoveX();
+        final float playerMoveY = getPlayerMoveY();
+        IntArray candidates = null;
+        if (useSpatialGrid) {
+            if (itemGridOutdated) {
+                rebuildItemGrid();
+                itemGridOutdated = false;
+            }
+            // Items stand still, so only the player's path this tick is searched
+            itemGrid.query(playerHitBox.x - Math.max(playerMoveX, 0),
+                playerHitBox.y - Math.max(playerMoveY, 0),
+                playerHitBox.width + Math.abs(playerMoveX),
+                playerHitBox.height + Math.abs(playerMoveY), collisionCandidates);
+            candidates = collisionCandidates;
+        }
+        pickupSystem.pickUp(items,
+            collisionSystem.sweep(items, playerHitBox, playerMoveX, playerMoveY, candidates),
+            archetypes, playerSprite);
+    }
+
+    /*
+     * Update hit box position of the enemy at index.
+     */
+    private void updateEnemyHitBoxCoordinates(final int index, final Rectangle hitBox) {
+        hitBox.setPosition(enemies.getX(index) + spriteHitBoxInset,
+            enemies.getY(index) + spriteHitBoxInset);
+    }
+
+    /*
+     * Returns how far the player moved along the X axis this tick.
+     */
+    private float getPlayerMoveX() {
+        return playerSprite.getX() - previousPlayerX;
+    }
+    /*
+     * Returns how far the player moved along the Y axis this tick.
+     */
+    private float getPlayerMoveY() {
+        return playerSprite.getY() - previousPlayerY;
+    }
+    /*
+     * Returns how far the enemy at index moved along the X axis this tick.
+     */
+    private float getEnemyMoveX(final int index) {
+        return enemies.getX(index) - enemies.getPreviousX(index);
+    }
+    /*
+     * Returns how far the enemy at index moved along the Y axis this tick.
+     */
+    private float getEnemyMoveY(final int index) {
+        return enemies.getY(index) - enemies.getPreviousY(index);
+    }
+
+    /*
+     * Buckets every enemy into the enemy grid by its index.
+     */
+    private void rebuildEnemyGrid() {
+        enemyGrid.clear();
+        for (int index = 0; index < enemies.getSize(); index++) {
+            if (!enemies.isDead(index)) {
+                enemyGrid.insert(index, enemies.getX(index), enemies.getY(index));
+            }
+        }
+    }
+
+    /*
+     * Buckets every item into the item grid by its index.
+     */
+    private void rebuildItemGrid() {
+        itemGrid.clear();
+        for (int index = 0; index < items.getSize(); index++) {
+            if (!items.isDead(index)) {
+                itemGrid.insert(index, items.getX(index), items.getY(index));
+            }
+        }
+    }
+
+    /*
+     * Fills collisionCandidates with entities that could overlap the area.
+     * Falls back to every entity when the spatial grid is turned off.
+     */
+    private void findCandidates(final SpatialGrid grid, final int entityCount,
+                                final float x, final float y,
+                                final float width, final float height) {
+        if (useSpatialGrid) {
+            grid.query(x, y, width, height, collisionCandidates);
+        } else {
+            collisionCandidates.clear();
+            for (int index = 0; index < entityCount; index++) {
+                collisionCandidates.add(index);
+            }
+        }
+    }
+
+    /*
+     * Drops every enemy and item marked dead this tick in one pass over each collection,
+     * renumbering the ones that are kept.
+     */
+    void removeDeadEntities() {
+        enemies.removeDead();
+        if (items.removeDead() > 0) {
+            itemGridOutdated = true;
+        }
+    }
+
+    /*
+     * Moves enemies and items into drawing order at the end of every tick, so the order the
+     * next tick sees never depends on how often the run was drawn. Items are bucketed by index,
+     * so the grid is rebuilt if any moved.
+     */
+    void sortByDepth() {
+        enemies.sortByDepth();
+        if (depthSortSystem.sort(items)) {
+            itemGridOutdated = true;
+        }
+    }
+
+    /**
+     * Returns true if the player ran out of HP.
+     *
+     * @return true if the game is over, otherwise false
+     */
+    public boolean isGameOver() {
+        return playerSprite.getCurrentHP() <= 0;
+    }
+    /**
+     * Returns true if the player ran out of stamina, ending the run with a score.
+     *
+     * @return true if the run ended, otherwise false
+     */
+    public boolean isRunEnded() {
+        return playerSprite.getCurrentStamina() <= 0;
+    }
+    /**
+     * Returns true if the run is over for any reason, after which no more ticks are run.
+     *
+     * @return true if finished, otherwise false
+     */
+    public boolean isFinished() {
+        return isGameOver() || isRunEnded();
+    }
+
+    /**
+     * Turns the spatial grid broad phase on or off, for comparing against testing every entity.
+     *
+     * @param enabled a boolean
+     */
+    public void setUseSpatialGrid(final boolean enabled) {
+        useSpatialGrid = enabled;
+        itemGridOutdated = true;
+    }
+    /**
+     * Turns splitting the enemy update across threads on or off. When on, waves of at least
+     * ParallelEnemyUpdate.SERIAL_THRESHOLD enemies are moved and tested in parallel.
+     *
+     * @param enabled a boolean
+     */
+    public void setParallelEnemyUpdate(final boolean enabled) {
+        parallelEnemyUpdate = enabled ? new ParallelEnemyUpdate(this) : null;
+    }
+    /**
+     * Returns the spawn director placing this run's waves.
+     *
+     * @return spawnDirector as SpawnDirector
+     */
+    public SpawnDirector getSpawnDirector() {
+        return spawnDirector;
+    }
+    /**
+     * Returns the flow field enemies steer by, so cells of the platform can be blocked.
+     *
+     * @return flowField as FlowField
+     */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+    /**
+     * Returns the kinds of enemies and items in this run, scaled for its difficulty.
+     *
+     * @return archetypes as ArchetypeRegistry
+     */
+    public ArchetypeRegistry getArchetypes() {
+        return archetypes;
+    }
+    /*
+     * Sets whether the player is invincible, so benchmarks can keep every check running.
+     */
+    void setPlayerInvincible(final boolean invincible) {
+        playerIsInvincible = invincible;
+    }
+    /*
+     * Sets whether the ability is active, so benchmarks can keep every check running.
+     */
+    void setAbilityActivated(final boolean activated) {
+        abilityActivated = activated;
+    }
+    /**
+     * Returns how far the time bank is into the next tick, for interpolating drawing.
+     *
+     * @return a float from 0 to 1
+     */
+    public float getAlpha() {
+        return accumulator / TICK_LENGTH;
+    }
+    /**
+     * Returns the seed every spawn of this run is rolled from.
+     *
+     * @return seed as long
+     */
+    public long getSeed() {
+        return seed;
+    }
+    /**
+     * Returns the amount of ticks run.
+     *
+     * @return tickCount as long
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+    /**
+     * Returns the difficulty of this run.
+     *
+     * @return gameDifficulty as Difficulty
+     */
+    public Difficulty getDifficulty() {
+        return gameDifficulty;
+    }
+    /**
+     * Returns the player.
+     *
+     * @return playerSprite as Player
+     */
+    public Player getPlayer() {
+        return playerSprite;
+    }
+    /**
+     * Returns the player's X coordinate, interpolated from the previous tick.
+     *
+     * @param alpha a float from 0 for the previous tick to 1 for the current tick
+     * @return the interpolated x as float
+     */
+    public float getInterpolatedPlayerX(final float alpha) {
+        return previousPlayerX + (playerSprite.getX() - previousPlayerX) * alpha;
+    }
+    /**
+     * Returns the player's Y coordinate, interpolated from the previous tick.
+     *
+     * @param alpha a float from 0 for the previous tick to 1 for the current tick
+     * @return the interpolated y as float
+     */
+    public float getInterpolatedPlayerY(final float alpha) {
+        return previousPlayerY + (playerSprite.getY() - previousPlayerY) * alpha;
+    }
+    /**
+     * Returns the enemies, from the highest to the lowest Y coordinate after every tick.
+     *
+     * @return enemies as EnemyStore
+     */
+    public EnemyStore getEnemies() {
+        return enemies;
+    }
+    /**
+     * Returns the items, from the highest to the lowest Y coordinate after every tick.
+     * Each item's region and stats are the index of its ItemArchetype.
+     *
+     * @return items as EntityTable
+     */
+    public EntityTable getItems() {
+        return items;
+    }
+    /**
+     * Returns true if the ability is active.
+     *
+     * @return abilityActivated as boolean
+     */
+    public boolean isAbilityActivated() {
+        return abilityActivated;
+    }
+    /**
+     * Returns true if the player is invincible after being hit.
+     *
+     * @return playerIsInvincible as boolean
+     */
+    public boolean isPlayerInvincible() {
+        return playerIsInvincible;
+    }
+
+    /**
+     * Returns a String representation of this GameSimulation.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("GameSimulation{");
+        builder.append("difficulty=").append(gameDifficulty).append(", ");
+        builder.append("seed=").append(seed).append(", ");
+        builder.append("tickCount=").append(tickCount).append(", ");
+        builder.append("enemies=").append(enemies.getSize()).append(", ");
+        builder.append("items=").append(items.getSize());
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * The player's input for one frame, handed to the simulation instead of polling devices.
+ * Held keys are stored as a bitmask so a command stays small and can be reused every frame.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class InputCommand {
+    /**
+     * Key bit for moving left.
+     */
+    public static final int LEFT = 1;
+    /**
+     * Key bit for moving right.
+     */
+    public static final int RIGHT = 1 << 1;
+    /**
+     * Key bit for moving down.
+     */
+    public static final int DOWN = 1 << 2;
+    /**
+     * Key bit for moving up.
+     */
+    public static final int UP = 1 << 3;
+    /**
+     * Key bit for using the ability.
+     */
+    public static final int ABILITY = 1 << 4;
+
+    private int keys;
+    private boolean touched;
+    private float touchX;
+    private float touchY;
+
+    /**
+     * Constructs an InputCommand with nothing pressed.
+     */
+    public InputCommand() {
+        clear();
+    }
+
+    /**
+     * Releases every key and the touch.
+     */
+    public void clear() {
+        keys = 0;
+        touched = false;
+        touchX = 0;
+        touchY = 0;
+    }
+
+    /**
+     * Sets whether the key bit is held.
+     *
+     * @param key an int, one of the key bits of this class
+     * @param pressed a boolean
+     */
+    public void setKey(final int key, final boolean pressed) {
+        if (pressed) {
+            keys |= key;
+        } else {
+            keys &= ~key;
+        }
+    }
+    /**
+     * Returns true if the key bit is held.
+     *
+     * @param key an int, one of the key bits of this class
+     * @return true if held, otherwise false
+     */
+    public boolean isKeyPressed(final int key) {
+        return (keys & key) != 0;
+    }
+    /**
+     * Returns every held key bit.
+     *
+     * @return keys as int
+     */
+    public int getKeys() {
+        return keys;
+    }
+    /**
+     * Sets every held key bit at once.
+     *
+     * @param keyBits an int
+     */
+    public void setKeys(final int keyBits) {
+        keys = keyBits;
+    }
+    /**
+     * Sets a touch at the specified world coordinates.
+     *
+     * @param x a float
+     * @param y a float
+     */
+    public void setTouch(final float x, final float y) {
+        touched = true;
+        touchX = x;
+        touchY = y;
+    }
+    /**
+     * Releases the touch.
+     */
+    public void clearTouch() {
+        touched = false;
+    }
+    /**
+     * Returns true if the screen is touched.
+     *
+     * @return touched as boolean
+     */
+    public boolean isTouched() {
+        return touched;
+    }
+    /**
+     * Returns the X world coordinate of the touch.
+     *
+     * @return touchX as float
+     */
+    public float getTouchX() {
+        return touchX;
+    }
+    /**
+     * Returns the Y world coordinate of the touch.
+     *
+     * @return touchY as float
+     */
+    public float getTouchY() {
+        return touchY;
+    }
+
+    /**
+     * Returns a String representation of this InputCommand.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("InputCommand{");
+        builder.append("keys=").append(Integer.toBinaryString(keys)).append(", ");
+        builder.append("touched=").append(touched).append(", ");
+        builder.append("touchX=").append(touchX).append(", ");
+        builder.append("touchY=").append(touchY);
+        builder.append("}");
+        return builder.toString();
+    }
+}
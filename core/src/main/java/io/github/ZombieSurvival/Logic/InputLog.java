@@ -0,0 +1,280 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Sprites.Difficulty;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Every tick's input of one run, with the difficulty and seed needed to replay it exactly.
+ * <p>
+ * The log is a small binary file: a header, then one entry per stretch of ticks that held
+ * the same input. An entry is a repeat count short and a flags byte holding the key bits,
+ * followed by the touch position as two floats only when the screen was touched.
+ * Held input rarely changes between ticks, so a minute of play takes a few kilobytes.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class InputLog {
+    /**
+     * Format version, raised whenever the simulation plays the same input differently.
+     */
+    public static final short VERSION = 8;
+    // "RNRI"
+    private static final int MAGIC = 0x524E5249;
+    // Header: magic int, version short, difficulty byte, reserved byte, seed long, ticks int
+    private static final int VERSION_OFFSET = 4;
+    private static final int DIFFICULTY_OFFSET = 6;
+    private static final int SEED_OFFSET = 8;
+    private static final int TICK_COUNT_OFFSET = 16;
+    private static final int HEADER_SIZE = 20;
+    // Entry flags: the key bits of InputCommand, and whether a touch position follows
+    private static final int TOUCHED_FLAG = 1 << 7;
+    private static final int MAX_REPEAT = 0xFFFF;
+    private static final int MAX_ENTRY_SIZE = 3 + 2 * Float.BYTES;
+
+    private final Difficulty difficulty;
+    private final long seed;
+    private ByteBuffer entries;
+    private int tickCount;
+    // The last entry, extended while the input stays the same
+    private int lastEntryOffset;
+    private int lastFlags;
+    private float lastTouchX;
+    private float lastTouchY;
+
+    /**
+     * Constructs an empty InputLog for a run on the specified difficulty and seed.
+     *
+     * @param difficulty a Difficulty
+     * @param seed a long, the seed of the run's GameSimulation
+     * @throws IllegalArgumentException if difficulty is null
+     */
+    public InputLog(final Difficulty difficulty, final long seed) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null.");
+        }
+        this.difficulty = difficulty;
+        this.seed = seed;
+        final int initialCapacity = 4096;
+        entries = ByteBuffer.allocate(initialCapacity);
+        tickCount = 0;
+        lastEntryOffset = -1;
+        lastFlags = 0;
+        lastTouchX = 0;
+        lastTouchY = 0;
+    }
+
+    /**
+     * Reads the InputLog at path.
+     *
+     * @param path a Path
+     * @return the read InputLog
+     * @throws IOException if the file cannot be read or is not a valid input log
+     */
+    public static InputLog read(final Path path) throws IOException {
+        final ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (file.remaining() < HEADER_SIZE || file.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not an input log.");
+        }
+        if (file.getShort(VERSION_OFFSET) != VERSION) {
+            throw new IOException("Input log " + path + " has unsupported version "
+                + file.getShort(VERSION_OFFSET) + ".");
+        }
+        final int difficultyOrdinal = file.get(DIFFICULTY_OFFSET);
+        if (difficultyOrdinal < 0 || difficultyOrdinal >= Difficulty.values().length) {
+            throw new IOException("Input log " + path + " has an unknown difficulty.");
+        }
+        final InputLog log = new InputLog(Difficulty.values()[difficultyOrdinal],
+            file.getLong(SEED_OFFSET));
+        file.position(HEADER_SIZE);
+        log.entries = ByteBuffer.allocate(Math.max(file.remaining(), MAX_ENTRY_SIZE));
+        log.entries.put(file);
+        log.tickCount = file.getInt(TICK_COUNT_OFFSET);
+        log.checkEntries(path);
+        return log;
+    }
+
+    /**
+     * Appends the input as held for the specified amount of ticks.
+     *
+     * @param input an InputCommand
+     * @param ticks an int
+     */
+    public void record(final InputCommand input, final int ticks) {
+        final int flags = input.getKeys() | (input.isTouched() ? TOUCHED_FLAG : 0);
+        final float touchX = input.isTouched() ? input.getTouchX() : 0;
+        final float touchY = input.isTouched() ? input.getTouchY() : 0;
+        for (int remaining = ticks; remaining > 0; remaining--) {
+            if (lastEntryOffset >= 0 && flags == lastFlags && touchX == lastTouchX
+                && touchY == lastTouchY && getRepeat(lastEntryOffset) < MAX_REPEAT) {
+                entries.putShort(lastEntryOffset,
+                    (short) (getRepeat(lastEntryOffset) + 1));
+            } else {
+                appendEntry(flags, touchX, touchY);
+            }
+            tickCount++;
+        }
+    }
+
+    /**
+     * Writes this InputLog to path, replacing any file there.
+     * The log is written beside it first and moved into place, so a crash never leaves
+     * a truncated log behind.
+     *
+     * @param path a Path
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Path path) throws IOException {
+        final ByteBuffer file = ByteBuffer.allocate(HEADER_SIZE + entries.position());
+        file.putInt(MAGIC);
+        file.putShort(VERSION);
+        file.put((byte) difficulty.ordinal());
+        file.put((byte) 0);
+        file.putLong(seed);
+        file.putInt(tickCount);
+        final ByteBuffer written = entries.duplicate();
+        written.flip();
+        file.put(written);
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            file.flip();
+            while (file.hasRemaining()) {
+                channel.write(file);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryPath, path,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException error) {
+            Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the difficulty of the recorded run.
+     *
+     * @return difficulty as Difficulty
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+    /**
+     * Returns the seed of the recorded run's GameSimulation.
+     *
+     * @return seed as long
+     */
+    public long getSeed() {
+        return seed;
+    }
+    /**
+     * Returns the amount of ticks recorded.
+     *
+     * @return tickCount as int
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /*
+     * Sets the input to the entry at offset and returns for how many ticks it was held.
+     */
+    int readEntry(final int offset, final InputCommand input) {
+        final int flags = entries.get(offset + 2) & 0xFF;
+        input.setKeys(flags & ~TOUCHED_FLAG);
+        if ((flags & TOUCHED_FLAG) != 0) {
+            input.setTouch(entries.getFloat(offset + 3), entries.getFloat(offset + 7));
+        } else {
+            input.clearTouch();
+        }
+        return getRepeat(offset);
+    }
+
+    /*
+     * Returns the offset of the entry after the one at offset.
+     */
+    int nextEntry(final int offset) {
+        final int flags = entries.get(offset + 2) & 0xFF;
+        return offset + ((flags & TOUCHED_FLAG) != 0 ? MAX_ENTRY_SIZE : 3);
+    }
+
+    /*
+     * Walks every read entry, throwing if one runs past the end of the log, is held for no
+     * ticks, or the entries do not add up to the tick count, so a replay never reads past them.
+     */
+    private void checkEntries(final Path path) throws IOException {
+        final int size = entries.position();
+        long ticks = 0;
+        int offset = 0;
+        while (offset < size) {
+            if (offset + 3 > size || nextEntry(offset) > size) {
+                throw new IOException("Input log " + path + " is truncated.");
+            }
+            final int repeat = getRepeat(offset);
+            if (repeat == 0) {
+                throw new IOException("Input log " + path + " has an entry held for no ticks.");
+            }
+            ticks += repeat;
+            offset = nextEntry(offset);
+        }
+        if (ticks != tickCount) {
+            throw new IOException("Input log " + path + " holds " + ticks
+                + " ticks of input but claims " + tickCount + ".");
+        }
+    }
+
+    /*
+     * Returns the repeat count of the entry at offset.
+     */
+    private int getRepeat(final int offset) {
+        return entries.getShort(offset) & MAX_REPEAT;
+    }
+
+    /*
+     * Starts a new entry held for one tick, growing the buffer if it is full.
+     */
+    private void appendEntry(final int flags, final float touchX, final float touchY) {
+        if (entries.remaining() < MAX_ENTRY_SIZE) {
+            final ByteBuffer grown = ByteBuffer.allocate(entries.capacity() * 2);
+            entries.flip();
+            grown.put(entries);
+            entries = grown;
+        }
+        lastEntryOffset = entries.position();
+        lastFlags = flags;
+        lastTouchX = touchX;
+        lastTouchY = touchY;
+        entries.putShort((short) 1);
+        entries.put((byte) flags);
+        if ((flags & TOUCHED_FLAG) != 0) {
+            entries.putFloat(touchX);
+            entries.putFloat(touchY);
+        }
+    }
+
+    /**
+     * Returns a String representation of this InputLog.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("InputLog{");
+        builder.append("difficulty=").append(difficulty).append(", ");
+        builder.append("seed=").append(seed).append(", ");
+        builder.append("ticks=").append(tickCount).append(", ");
+        builder.append("bytes=").append(HEADER_SIZE + entries.position());
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.ZombieSurvival.Logic;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Writes the input log of each finished run to one file on its own thread,
+ * so the render thread never waits on the disk.
+ * Only the last run is kept, so a log submitted while another is waiting replaces it.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class InputLogWriter implements Runnable {
+    private final Path path;
+    private final Object lock;
+    private final Thread thread;
+    // Guarded by lock
+    private InputLog pending;
+    private boolean closed;
+
+    /**
+     * Constructs an InputLogWriter that replaces the file at path and starts its thread.
+     *
+     * @param path a Path
+     * @throws IllegalArgumentException if path is null
+     */
+    public InputLogWriter(final Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException("There is no input log file to write to.");
+        }
+        this.path = path;
+        lock = new Object();
+        pending = null;
+        closed = false;
+        thread = new Thread(this, "input-log-writer");
+        // The waiting log is written by close, so the thread never keeps the game open
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Hands over the log of a finished run to be written. Never blocks.
+     *
+     * @param log an InputLog, no longer recorded to
+     * @throws IllegalArgumentException if log is null
+     */
+    public void submit(final InputLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException("There is no input log to write.");
+        }
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            pending = log;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes the log waiting to be written, then stops the thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        thread.join();
+    }
+
+    /**
+     * Writes each submitted log, until closed.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            final InputLog log;
+            synchronized (lock) {
+                try {
+                    while (pending == null && !closed) {
+                        lock.wait();
+                    }
+                } catch (InterruptedException error) {
+                    return;
+                }
+                if (pending == null) {
+                    return;
+                }
+                log = pending;
+                pending = null;
+            }
+            try {
+                log.write(path);
+            } catch (IOException error) {
+                System.out.println("Failed to write input log.");
+            }
+        }
+    }
+
+    /**
+     * Returns a String representation of this InputLogWriter.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("InputLogWriter{");
+        builder.append("path=").append(path).append(", ");
+        synchronized (lock) {
+            builder.append("pending=").append(pending != null).append(", ");
+            builder.append("closed=").append(closed);
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+}
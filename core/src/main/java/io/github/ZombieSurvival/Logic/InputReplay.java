@@ -0,0 +1,116 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * Plays an InputLog back one tick at a time.
+ * A GameSimulation built from the log's difficulty and seed and ticked with the replayed
+ * input runs exactly as the recorded run did.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class InputReplay {
+    private final InputLog log;
+    // Entry being replayed and the one after it
+    private int entryOffset;
+    private int nextEntryOffset;
+    private int ticksLeftInEntry;
+    private int ticksReplayed;
+
+    /**
+     * Constructs an InputReplay from the first tick of the log.
+     *
+     * @param log an InputLog
+     * @throws IllegalArgumentException if log is null
+     */
+    public InputReplay(final InputLog log) {
+        if (log == null) {
+            throw new IllegalArgumentException("There is no input log to replay.");
+        }
+        this.log = log;
+        entryOffset = 0;
+        nextEntryOffset = 0;
+        ticksLeftInEntry = 0;
+        ticksReplayed = 0;
+    }
+
+    /**
+     * Creates the GameSimulation the log was recorded from, at its first tick.
+     *
+     * @return a new GameSimulation
+     */
+    public GameSimulation createSimulation() {
+        return new GameSimulation(log.getDifficulty(), log.getSeed());
+    }
+
+    /**
+     * Runs every recorded tick of the log without drawing, as fast as possible.
+     * Stops early if the run ends before the log does, as a recorded run never would,
+     * so a replay that went differently does not show the recorded tick count.
+     *
+     * @param log an InputLog
+     * @return the GameSimulation after the last recorded tick
+     */
+    public static GameSimulation fastForward(final InputLog log) {
+        final InputReplay replay = new InputReplay(log);
+        final GameSimulation simulation = replay.createSimulation();
+        final InputCommand input = new InputCommand();
+        while (!simulation.isFinished() && replay.next(input)) {
+            simulation.tick(input);
+        }
+        return simulation;
+    }
+
+    /**
+     * Sets the input to that of the next recorded tick.
+     *
+     * @param input an InputCommand
+     * @return true if a tick was replayed, false if the log has ended
+     */
+    public boolean next(final InputCommand input) {
+        if (isFinished()) {
+            return false;
+        }
+        if (ticksLeftInEntry == 0) {
+            entryOffset = nextEntryOffset;
+            nextEntryOffset = log.nextEntry(entryOffset);
+            ticksLeftInEntry = log.readEntry(entryOffset, input);
+        } else {
+            log.readEntry(entryOffset, input);
+        }
+        ticksLeftInEntry--;
+        ticksReplayed++;
+        return true;
+    }
+
+    /**
+     * Returns true once every recorded tick was replayed.
+     *
+     * @return true if finished, otherwise false
+     */
+    public boolean isFinished() {
+        return ticksReplayed >= log.getTickCount();
+    }
+    /**
+     * Returns the amount of ticks replayed.
+     *
+     * @return ticksReplayed as int
+     */
+    public int getTicksReplayed() {
+        return ticksReplayed;
+    }
+
+    /**
+     * Returns a String representation of this InputReplay.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("InputReplay{");
+        builder.append("log=").append(log).append(", ");
+        builder.append("ticksReplayed=").append(ticksReplayed);
+        builder.append("}");
+        return builder.toString();
+    }
+}
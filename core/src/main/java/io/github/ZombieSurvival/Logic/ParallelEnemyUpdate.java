@@ -0,0 +1,139 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Moves and tests the enemies of a GameSimulation in fixed size chunks on a ForkJoinPool.
+ * Every chunk writes its kills and the earliest spawned enemy hitting the player into its own
+ * buffers, which are merged in chunk order on the calling thread, so the result does not
+ * depend on which thread ran which chunk.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+@SuppressWarnings("serial")
+class ParallelEnemyUpdate extends RecursiveAction {
+    /**
+     * Amount of enemies below which updating them on one thread is faster than scheduling chunks.
+     */
+    static final int SERIAL_THRESHOLD = 4096;
+    private static final int CHUNK_SIZE = 1024;
+
+    private final GameSimulation simulation;
+    private final ForkJoinPool pool;
+    // Reused chunks, only the first chunkCount are run
+    private final Array<Chunk> chunks;
+    private int chunkCount;
+
+    /*
+     * Constructs a ParallelEnemyUpdate of the simulation, running on the common pool.
+     */
+    ParallelEnemyUpdate(final GameSimulation simulation) {
+        this.simulation = simulation;
+        pool = ForkJoinPool.commonPool();
+        chunks = new Array<>(true, 16, Chunk.class);
+        chunkCount = 0;
+    }
+
+    /*
+     * Updates the enemies from 0 up to enemyCount, blocking until every chunk is done.
+     * Adds every killed enemy to kills and returns the earliest spawned enemy hitting the player,
+     * or -1.
+     */
+    int run(final int enemyCount, final IntArray kills) {
+        chunkCount = (enemyCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        while (chunks.size < chunkCount) {
+            chunks.add(new Chunk());
+        }
+        for (int index = 0; index < chunkCount; index++) {
+            final int start = index * CHUNK_SIZE;
+            chunks.get(index).prepare(start, Math.min(start + CHUNK_SIZE, enemyCount));
+        }
+        reinitialize();
+        pool.invoke(this);
+        kills.clear();
+        int hitIndex = -1;
+        for (int index = 0; index < chunkCount; index++) {
+            final Chunk chunk = chunks.get(index);
+            kills.addAll(chunk.kills);
+            hitIndex = simulation.earlierSpawned(hitIndex, chunk.hitIndex);
+        }
+        return hitIndex;
+    }
+
+    /**
+     * Forks every chunk but the first, runs the first on this thread, then waits for the rest.
+     */
+    @Override
+    protected void compute() {
+        for (int index = 1; index < chunkCount; index++) {
+            chunks.get(index).fork();
+        }
+        chunks.get(0).invoke();
+        for (int index = 1; index < chunkCount; index++) {
+            chunks.get(index).join();
+        }
+    }
+
+    /**
+     * Returns a String representation of this ParallelEnemyUpdate.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("ParallelEnemyUpdate{");
+        builder.append("parallelism=").append(pool.getParallelism()).append(", ");
+        builder.append("chunks=").append(chunkCount);
+        builder.append("}");
+        return builder.toString();
+    }
+
+    /*
+     * One range of enemies with its own hit box and result buffers.
+     */
+    @SuppressWarnings("serial")
+    private final class Chunk extends RecursiveAction {
+        private final Rectangle hitBox;
+        private final IntArray kills;
+        private int start;
+        private int end;
+        private int hitIndex;
+
+        /*
+         * Constructs an empty Chunk.
+         */
+        Chunk() {
+            hitBox = new Rectangle();
+            kills = new IntArray();
+            start = 0;
+            end = 0;
+            hitIndex = -1;
+        }
+
+        /*
+         * Sets the range to update next and resets the task so it can run again.
+         */
+        void prepare(final int rangeStart, final int rangeEnd) {
+            start = rangeStart;
+            end = rangeEnd;
+            kills.clear();
+            hitIndex = -1;
+            reinitialize();
+        }
+
+        /**
+         * Updates the range of enemies.
+         */
+        @Override
+        protected void compute() {
+            hitIndex = simulation.updateEnemyRange(start, end, hitBox, kills);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Ecs.EntityTable;
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import io.github.ZombieSurvival.Sprites.EnemyStore;
+import io.github.ZombieSurvival.Sprites.Player;
+
+import java.util.Arrays;
+
+/**
+ * Everything needed to draw one tick of a GameSimulation, copied out of it.
+ * Sprites are stored back to front as draw entries with their previous and current positions,
+ * so the snapshot can be interpolated and drawn while the simulation runs on elsewhere.
+ * Arrays only grow, so capturing into a reused snapshot does not allocate once warmed up.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class SimulationSnapshot {
+    /**
+     * Draw entry of the player.
+     */
+    public static final byte PLAYER = 0;
+    /**
+     * Draw entry of an enemy.
+     */
+    public static final byte ENEMY = 1;
+    /**
+     * Draw entry of an item.
+     */
+    public static final byte ITEM = 2;
+
+    // Draw entries, from back to front
+    private byte[] kinds;
+    // Index of the entry's enemy or item archetype, 0 for the player
+    private short[] archetypes;
+    private float[] previousX;
+    private float[] previousY;
+    private float[] x;
+    private float[] y;
+    private boolean[] flipX;
+    private int entryCount;
+    // Player
+    private float previousPlayerX;
+    private float previousPlayerY;
+    private float playerX;
+    private float playerY;
+    private int currentHP;
+    private int maxHP;
+    private int currentStamina;
+    private int maxStamina;
+    private int currentCharge;
+    private int maxCharge;
+    private int currentScore;
+    private boolean playerInvincible;
+    private boolean abilityActivated;
+    // Run
+    private Difficulty difficulty;
+    private long tickCount;
+    private int enemyCount;
+    private int itemCount;
+    private boolean gameOver;
+    private boolean runEnded;
+    private boolean inputEnded;
+    private long capturedNanos;
+
+    /**
+     * Constructs an empty SimulationSnapshot.
+     */
+    public SimulationSnapshot() {
+        final int defaultCapacity = 64;
+        kinds = new byte[defaultCapacity];
+        archetypes = new short[defaultCapacity];
+        previousX = new float[defaultCapacity];
+        previousY = new float[defaultCapacity];
+        x = new float[defaultCapacity];
+        y = new float[defaultCapacity];
+        flipX = new boolean[defaultCapacity];
+        entryCount = 0;
+        difficulty = null;
+        capturedNanos = 0;
+    }
+
+    /**
+     * Copies the current tick of the simulation into this snapshot.
+     * Only reads the simulation, which leaves its entities in drawing order after every tick,
+     * but must run on the simulation's thread so no tick changes them while they are copied.
+     *
+     * @param simulation a GameSimulation
+     * @param hasInputEnded a boolean, true if a replayed run has no input left
+     * @param nanos a long, the System.nanoTime the snapshot was taken
+     */
+    public void capture(final GameSimulation simulation, final boolean hasInputEnded,
+                        final long nanos) {
+        final Player player = simulation.getPlayer();
+        final EntityTable items = simulation.getItems();
+        final EnemyStore enemies = simulation.getEnemies();
+        ensureCapacity(1 + items.getSize() + enemies.getSize());
+        entryCount = 0;
+        // Merge the player, items and enemies, each ordered from back to front.
+        // On the same row the player is drawn behind items, and items behind enemies.
+        int enemyIndex = 0;
+        boolean playerAdded = false;
+        for (int index = 0; index < items.getSize(); index++) {
+            final float itemY = items.getY(index);
+            if (!playerAdded && player.getY() >= itemY) {
+                enemyIndex = addEnemiesAbove(enemies, enemyIndex, player.getY());
+                addPlayer(simulation, player);
+                playerAdded = true;
+            }
+            enemyIndex = addEnemiesAbove(enemies, enemyIndex, itemY);
+            addEntry(ITEM, items.getRegion(index), items.getPreviousX(index),
+                items.getPreviousY(index), items.getX(index), itemY, items.isFlipX(index));
+        }
+        if (!playerAdded) {
+            enemyIndex = addEnemiesAbove(enemies, enemyIndex, player.getY());
+            addPlayer(simulation, player);
+        }
+        addEnemiesAbove(enemies, enemyIndex, Float.NEGATIVE_INFINITY);
+        // Player
+        previousPlayerX = simulation.getInterpolatedPlayerX(0);
+        previousPlayerY = simulation.getInterpolatedPlayerY(0);
+        playerX = player.getX();
+        playerY = player.getY();
+        currentHP = player.getCurrentHP();
+        maxHP = player.getMaxHP();
+        currentStamina = player.getCurrentStamina();
+        maxStamina = player.getMaxStamina();
+        currentCharge = player.getCurrentCharge();
+        maxCharge = player.getMaxCharge();
+        currentScore = player.getCurrentScore();
+        playerInvincible = simulation.isPlayerInvincible();
+        abilityActivated = simulation.isAbilityActivated();
+        // Run
+        difficulty = simulation.getDifficulty();
+        tickCount = simulation.getTickCount();
+        enemyCount = enemies.getSize();
+        itemCount = items.getSize();
+        gameOver = simulation.isGameOver();
+        runEnded = simulation.isRunEnded();
+        inputEnded = hasInputEnded;
+        capturedNanos = nanos;
+    }
+
+    /*
+     * Adds the player as a draw entry.
+     */
+    private void addPlayer(final GameSimulation simulation, final Player player) {
+        addEntry(PLAYER, 0, simulation.getInterpolatedPlayerX(0),
+            simulation.getInterpolatedPlayerY(0), player.getX(), player.getY(),
+            player.isFlipX());
+    }
+
+    /*
+     * Adds the enemies from index on that are higher than y as draw entries,
+     * and returns the index of the first enemy left.
+     */
+    private int addEnemiesAbove(final EnemyStore enemies, final int index, final float y) {
+        int enemyIndex = index;
+        while (enemyIndex < enemies.getSize() && enemies.getY(enemyIndex) > y) {
+            addEnemy(enemies, enemyIndex++);
+        }
+        return enemyIndex;
+    }
+
+    /*
+     * Adds the enemy at index as a draw entry.
+     */
+    private void addEnemy(final EnemyStore enemies, final int index) {
+        addEntry(ENEMY, enemies.getArchetype(index), enemies.getInterpolatedX(index, 0),
+            enemies.getInterpolatedY(index, 0), enemies.getX(index), enemies.getY(index),
+            enemies.isFlipX(index));
+    }
+
+    /*
+     * Adds a draw entry, which must fit in the arrays.
+     */
+    private void addEntry(final byte kind, final int archetype, final float fromX,
+                          final float fromY, final float toX, final float toY,
+                          final boolean flip) {
+        kinds[entryCount] = kind;
+        archetypes[entryCount] = (short) archetype;
+        previousX[entryCount] = fromX;
+        previousY[entryCount] = fromY;
+        x[entryCount] = toX;
+        y[entryCount] = toY;
+        flipX[entryCount] = flip;
+        entryCount++;
+    }
+
+    /*
+     * Grows every draw entry array to hold at least capacity entries.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= kinds.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, kinds.length * 2);
+        kinds = Arrays.copyOf(kinds, newCapacity);
+        archetypes = Arrays.copyOf(archetypes, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        flipX = Arrays.copyOf(flipX, newCapacity);
+    }
+
+    /**
+     * Returns how far drawing is into the tick after this snapshot, for interpolating.
+     *
+     * @param nanos a long, the System.nanoTime of the frame
+     * @return a float from 0 to 1
+     */
+    public float getAlphaAt(final long nanos) {
+        final float elapsed = (nanos - capturedNanos) / 1e9f;
+        return Math.max(0f, Math.min(1f, elapsed / GameSimulation.TICK_LENGTH));
+    }
+
+    /**
+     * Returns the amount of draw entries.
+     *
+     * @return entryCount as int
+     */
+    public int getEntryCount() {
+        return entryCount;
+    }
+    /**
+     * Returns the kind of the draw entry at index.
+     *
+     * @param index an int
+     * @return one of the draw entry kinds of this class
+     */
+    public byte getKind(final int index) {
+        return kinds[index];
+    }
+    /**
+     * Returns the index of the enemy or item archetype of the draw entry at index.
+     *
+     * @param index an int
+     * @return the archetype index as int, 0 for the player
+     */
+    public int getArchetype(final int index) {
+        return archetypes[index];
+    }
+    /**
+     * Returns the X coordinate of the draw entry at index, interpolated from its previous tick.
+     *
+     * @param index an int
+     * @param alpha a float from 0 for the previous tick to 1 for this tick
+     * @return the interpolated x as float
+     */
+    public float getX(final int index, final float alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+    /**
+     * Returns the Y coordinate of the draw entry at index, interpolated from its previous tick.
+     *
+     * @param index an int
+     * @param alpha a float from 0 for the previous tick to 1 for this tick
+     * @return the interpolated y as float
+     */
+    public float getY(final int index, final float alpha) {
+        return previousY[index] + (y[index] - previousY[index]) * alpha;
+    }
+    /**
+     * Returns true if the draw entry at index is facing right.
+     *
+     * @param index an int
+     * @return flipX as boolean
+     */
+    public boolean isFlipX(final int index) {
+        return flipX[index];
+    }
+    /**
+     * Returns the X coordinate of the player, interpolated from its previous tick.
+     *
+     * @param alpha a float from 0 for the previous tick to 1 for this tick
+     * @return the interpolated x as float
+     */
+    public float getPlayerX(final float alpha) {
+        return previousPlayerX + (playerX - previousPlayerX) * alpha;
+    }
+    /**
+     * Returns the Y coordinate of the player, interpolated from its previous tick.
+     *
+     * @param alpha a float from 0 for the previous tick to 1 for this tick
+     * @return the interpolated y as float
+     */
+    public float getPlayerY(final float alpha) {
+        return previousPlayerY + (playerY - previousPlayerY) * alpha;
+    }
+    /**
+     * Returns the currentHP of the player.
+     *
+     * @return currentHP as int
+     */
+    public int getCurrentHP() {
+        return currentHP;
+    }
+    /**
+     * Returns the maxHP of the player.
+     *
+     * @return maxHP as int
+     */
+    public int getMaxHP() {
+        return maxHP;
+    }
+    /**
+     * Returns the currentStamina of the player.
+     *
+     * @return currentStamina as int
+     */
+    public int getCurrentStamina() {
+        return currentStamina;
+    }
+    /**
+     * Returns the maxStamina of the player.
+     *
+     * @return maxStamina as int
+     */
+    public int getMaxStamina() {
+        return maxStamina;
+    }
+    /**
+     * Returns the currentCharge of the player.
+     *
+     * @return currentCharge as int
+     */
+    public int getCurrentCharge() {
+        return currentCharge;
+    }
+    /**
+     * Returns the maxCharge of the player.
+     *
+     * @return maxCharge as int
+     */
+    public int getMaxCharge() {
+        return maxCharge;
+    }
+    /**
+     * Returns the currentScore of the player.
+     *
+     * @return currentScore as int
+     */
+    public int getCurrentScore() {
+        return currentScore;
+    }
+    /**
+     * Returns true if the player is invincible.
+     *
+     * @return playerInvincible as boolean
+     */
+    public boolean isPlayerInvincible() {
+        return playerInvincible;
+    }
+    /**
+     * Returns true if the ability is active.
+     *
+     * @return abilityActivated as boolean
+     */
+    public boolean isAbilityActivated() {
+        return abilityActivated;
+    }
+    /**
+     * Returns the difficulty of the run.
+     *
+     * @return difficulty as Difficulty
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+    /**
+     * Returns the amount of ticks run before this snapshot.
+     *
+     * @return tickCount as long
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+    /**
+     * Returns the amount of enemies alive.
+     *
+     * @return enemyCount as int
+     */
+    public int getEnemyCount() {
+        return enemyCount;
+    }
+    /**
+     * Returns the amount of items on the platform.
+     *
+     * @return itemCount as int
+     */
+    public int getItemCount() {
+        return itemCount;
+    }
+    /**
+     * Returns true if the player ran out of HP.
+     *
+     * @return gameOver as boolean
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+    /**
+     * Returns true if the player ran out of stamina.
+     *
+     * @return runEnded as boolean
+     */
+    public boolean isRunEnded() {
+        return runEnded;
+    }
+    /**
+     * Returns true if a replayed run has no input left.
+     *
+     * @return inputEnded as boolean
+     */
+    public boolean isInputEnded() {
+        return inputEnded;
+    }
+
+    /**
+     * Returns a String representation of this SimulationSnapshot.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SimulationSnapshot{");
+        builder.append("tickCount=").append(tickCount).append(", ");
+        builder.append("entries=").append(entryCount).append(", ");
+        builder.append("score=").append(currentScore);
+        builder.append("}");
+        return builder.toString();
+    }
+}
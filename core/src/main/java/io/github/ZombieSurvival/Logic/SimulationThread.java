@@ -0,0 +1,222 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * Runs a GameSimulation on its own thread at the fixed tick rate, so a slow tick never
+ * holds up drawing. After every batch of ticks the thread captures a SimulationSnapshot
+ * and publishes it through a triple buffer: one snapshot being drawn, one ready, and one
+ * being captured, so neither thread ever waits for the other to finish with a snapshot.
+ * Until stopped, the simulation and input log belong to this thread.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class SimulationThread implements Runnable {
+    private final GameSimulation simulation;
+    private final InputLog recording;
+    private final InputReplay replay;
+    private final Object lock;
+    private final Thread thread;
+    // Latest input of the render thread, guarded by lock
+    private final InputCommand latestInput;
+    // Input of the tick being run, only used by the simulation thread
+    private final InputCommand tickInput;
+    // Triple buffer, the indices are guarded by lock
+    private final SimulationSnapshot[] snapshots;
+    private int drawnIndex;
+    private int readyIndex;
+    private int capturingIndex;
+    private boolean readyIsNew;
+    private volatile boolean running;
+
+    /**
+     * Constructs a SimulationThread that runs the simulation from the render thread's input,
+     * recording it into recording, or from replay when replaying.
+     * The thread does not run until started.
+     *
+     * @param simulation a GameSimulation, not touched by any other thread until stopped
+     * @param recording an InputLog, or null when replaying
+     * @param replay an InputReplay, or null when recording
+     * @throws IllegalArgumentException if simulation is null, or not exactly one of
+     *                                  recording and replay is given
+     */
+    public SimulationThread(final GameSimulation simulation, final InputLog recording,
+                            final InputReplay replay) {
+        if (simulation == null) {
+            throw new IllegalArgumentException("There is no simulation to run.");
+        }
+        if ((recording == null) == (replay == null)) {
+            throw new IllegalArgumentException("Either record or replay the input.");
+        }
+        this.simulation = simulation;
+        this.recording = recording;
+        this.replay = replay;
+        lock = new Object();
+        latestInput = new InputCommand();
+        tickInput = new InputCommand();
+        snapshots = new SimulationSnapshot[3];
+        for (int index = 0; index < snapshots.length; index++) {
+            snapshots[index] = new SimulationSnapshot();
+        }
+        drawnIndex = 0;
+        readyIndex = 1;
+        capturingIndex = 2;
+        // Something to draw before the first tick
+        snapshots[drawnIndex].capture(simulation, isInputEnded(), System.nanoTime());
+        readyIsNew = false;
+        running = false;
+        thread = new Thread(this, "simulation");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Starts running ticks.
+     */
+    public void start() {
+        running = true;
+        thread.start();
+    }
+
+    /**
+     * Stops running ticks and waits for the tick in progress, after which the simulation
+     * and input log may be used by the calling thread again.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        if (thread.isAlive()) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Hands the render thread's input to the next ticks. Ignored when replaying.
+     *
+     * @param input an InputCommand, copied
+     */
+    public void setInput(final InputCommand input) {
+        synchronized (lock) {
+            copyInput(input, latestInput);
+        }
+    }
+
+    /**
+     * Returns the latest published snapshot. It is left alone by the simulation thread
+     * until the next call, so it can be drawn without locking.
+     *
+     * @return a SimulationSnapshot
+     */
+    public SimulationSnapshot acquireSnapshot() {
+        synchronized (lock) {
+            if (readyIsNew) {
+                final int swap = drawnIndex;
+                drawnIndex = readyIndex;
+                readyIndex = swap;
+                readyIsNew = false;
+            }
+            return snapshots[drawnIndex];
+        }
+    }
+
+    /**
+     * Runs the ticks due on the fixed timestep and publishes a snapshot after each batch,
+     * until stopped or the run is over.
+     */
+    @Override
+    public void run() {
+        long previousNanos = System.nanoTime();
+        while (running) {
+            final long now = System.nanoTime();
+            final int dueTicks = simulation.takeDueTicks((now - previousNanos) / 1e9f);
+            previousNanos = now;
+            int ticks = 0;
+            while (ticks < dueTicks && !simulation.isFinished() && nextInput()) {
+                simulation.tick(tickInput);
+                if (recording != null) {
+                    recording.record(tickInput, 1);
+                }
+                ticks++;
+            }
+            final boolean ended = simulation.isFinished() || isInputEnded();
+            if (ticks > 0 || ended) {
+                publish();
+            }
+            if (ended) {
+                return;
+            }
+            sleepUntilNextTick();
+        }
+    }
+
+    /*
+     * Sets tickInput to the input of the next tick, returning false if a replay has ended.
+     */
+    private boolean nextInput() {
+        if (replay != null) {
+            return replay.next(tickInput);
+        }
+        synchronized (lock) {
+            copyInput(latestInput, tickInput);
+        }
+        return true;
+    }
+
+    /*
+     * Captures the simulation into the spare snapshot and swaps it in as the ready one.
+     */
+    private void publish() {
+        snapshots[capturingIndex].capture(simulation, isInputEnded(), System.nanoTime());
+        synchronized (lock) {
+            final int swap = readyIndex;
+            readyIndex = capturingIndex;
+            capturingIndex = swap;
+            readyIsNew = true;
+        }
+    }
+
+    /*
+     * Sleeps for the rest of the current tick, at least a millisecond.
+     */
+    private void sleepUntilNextTick() {
+        final float secondsLeft = (1f - simulation.getAlpha()) * GameSimulation.TICK_LENGTH;
+        try {
+            Thread.sleep(Math.max(1L, (long) (secondsLeft * 1000)));
+        } catch (InterruptedException error) {
+            running = false;
+        }
+    }
+
+    /*
+     * Returns true if a replay has no input left.
+     */
+    private boolean isInputEnded() {
+        return replay != null && replay.isFinished();
+    }
+
+    /*
+     * Copies the keys and touch of source into target.
+     */
+    private static void copyInput(final InputCommand source, final InputCommand target) {
+        target.setKeys(source.getKeys());
+        if (source.isTouched()) {
+            target.setTouch(source.getTouchX(), source.getTouchY());
+        } else {
+            target.clearTouch();
+        }
+    }
+
+    /**
+     * Returns a String representation of this SimulationThread.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SimulationThread{");
+        builder.append("running=").append(running).append(", ");
+        builder.append("replaying=").append(replay != null);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A uniform grid that buckets entity indices by position for broad-phase collision checks.
+ * Each entity is stored in the single cell containing its bottom left corner, so queries
+ * are expanded by the largest entity size to catch entities reaching in from neighbouring cells.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class SpatialGrid {
+    private final float minX;
+    private final float minY;
+    private final float cellSize;
+    private final int columns;
+    private final int rows;
+    private final float maxEntityWidth;
+    private final float maxEntityHeight;
+    // First entity index of each cell, -1 when the cell is empty
+    private final int[] cellHeads;
+    // Next entity index in the same cell, indexed by entity index
+    private int[] nextInCell;
+
+    /**
+     * Constructs a SpatialGrid covering the specified area.
+     *
+     * @param minX a float
+     * @param minY a float
+     * @param maxX a float
+     * @param maxY a float
+     * @param cellSize a float
+     * @param maxEntityWidth a float
+     * @param maxEntityHeight a float
+     * @throws IllegalArgumentException if the area is empty or cellSize is not positive
+     */
+    public SpatialGrid(final float minX, final float minY, final float maxX, final float maxY,
+                       final float cellSize,
+                       final float maxEntityWidth, final float maxEntityHeight) {
+        if (maxX <= minX || maxY <= minY) {
+            throw new IllegalArgumentException("Grid area cannot be empty.");
+        }
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be larger then 0.");
+        }
+        this.minX = minX;
+        this.minY = minY;
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil((maxX - minX) / cellSize);
+        this.rows = (int) Math.ceil((maxY - minY) / cellSize);
+        this.maxEntityWidth = maxEntityWidth;
+        this.maxEntityHeight = maxEntityHeight;
+        final int defaultCapacity = 64;
+        cellHeads = new int[columns * rows];
+        nextInCell = new int[defaultCapacity];
+        clear();
+    }
+
+    /**
+     * Removes every entity from the grid.
+     */
+    public void clear() {
+        Arrays.fill(cellHeads, -1);
+    }
+
+    /**
+     * Buckets the entity index at the specified position.
+     * Positions outside the grid are clamped into the border cells.
+     *
+     * @param index an int, unique among the entities currently in the grid
+     * @param x a float
+     * @param y a float
+     */
+    public void insert(final int index, final float x, final float y) {
+        if (index >= nextInCell.length) {
+            nextInCell = Arrays.copyOf(nextInCell, Math.max(index + 1, nextInCell.length * 2));
+        }
+        final int cell = getRow(y) * columns + getColumn(x);
+        nextInCell[index] = cellHeads[cell];
+        cellHeads[cell] = index;
+    }
+
+    /**
+     * Adds the index of every entity that could overlap the specified area to result.
+     * The result is a candidate list; exact overlap still needs to be tested by the caller.
+     *
+     * @param x a float
+     * @param y a float
+     * @param width a float
+     * @param height a float
+     * @param result an IntArray, cleared before use
+     */
+    public void query(final float x, final float y, final float width, final float height,
+                      final IntArray result) {
+        result.clear();
+        final int firstColumn = getColumn(x - maxEntityWidth);
+        final int lastColumn = getColumn(x + width);
+        final int firstRow = getRow(y - maxEntityHeight);
+        final int lastRow = getRow(y + height);
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int index = cellHeads[row * columns + column];
+                while (index != -1) {
+                    result.add(index);
+                    index = nextInCell[index];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the amount of columns in this grid.
+     *
+     * @return columns as int
+     */
+    public int getColumns() {
+        return columns;
+    }
+    /**
+     * Returns the amount of rows in this grid.
+     *
+     * @return rows as int
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /*
+     * Returns the clamped column containing x.
+     */
+    private int getColumn(final float x) {
+        final int column = (int) Math.floor((x - minX) / cellSize);
+        return Math.max(0, Math.min(columns - 1, column));
+    }
+
+    /*
+     * Returns the clamped row containing y.
+     */
+    private int getRow(final float y) {
+        final int row = (int) Math.floor((y - minY) / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    /**
+     * Returns a String representation of this SpatialGrid.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SpatialGrid{");
+        builder.append("columns=").append(columns).append(", ");
+        builder.append("rows=").append(rows).append(", ");
+        builder.append("cellSize=").append(cellSize);
+        builder.append("}");
+        return builder.toString();
+    }
+}
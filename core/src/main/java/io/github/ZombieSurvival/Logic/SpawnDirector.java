@@ -0,0 +1,233 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Spawns the waves of a WaveTable into a GameSimulation, one tick at a time.
+ * Timers keep the time past each interval, so spawn rates stay exact whatever the tick
+ * timing, and fractional wave counts carry to the next spawn. Started waves queue their
+ * enemies, and at most the table's spawn budget of them are placed each tick, so a large
+ * wave is spread over several ticks instead of spiking one.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class SpawnDirector {
+    private static final float RING_RADIUS = 450f;
+    private static final float CLUSTER_SPREAD = 120f;
+
+    private final WaveTable table;
+    private final RandomXS128 random;
+    private final float minX;
+    private final float minY;
+    private final float maxX;
+    private final float maxY;
+    // By wave index
+    private final float[] waveTimers;
+    private final float[] countCarry;
+    private float itemTimer;
+    private long ticks;
+    // Queued groups, parallel arrays from groupHead up to their size
+    private final IntArray groupWaves;
+    private final IntArray groupSizes;
+    private final IntArray groupSpawned;
+    private final FloatArray groupAnchorX;
+    private final FloatArray groupAnchorY;
+    private final FloatArray groupAngle;
+    private int groupHead;
+    private int queuedEnemies;
+
+    /**
+     * Constructs a SpawnDirector placing enemies inside the specified area.
+     *
+     * @param table a WaveTable
+     * @param random a RandomXS128, the run's generator so spawns follow its seed
+     * @param minX a float
+     * @param minY a float
+     * @param maxX a float
+     * @param maxY a float
+     * @throws IllegalArgumentException if table or random is null
+     */
+    public SpawnDirector(final WaveTable table, final RandomXS128 random,
+                         final float minX, final float minY, final float maxX, final float maxY) {
+        if (table == null || random == null) {
+            throw new IllegalArgumentException("There is no wave table or generator.");
+        }
+        this.table = table;
+        this.random = random;
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        waveTimers = new float[table.getWaveCount()];
+        countCarry = new float[table.getWaveCount()];
+        itemTimer = 0;
+        ticks = 0;
+        groupWaves = new IntArray();
+        groupSizes = new IntArray();
+        groupSpawned = new IntArray();
+        groupAnchorX = new FloatArray();
+        groupAnchorY = new FloatArray();
+        groupAngle = new FloatArray();
+        groupHead = 0;
+        queuedEnemies = 0;
+    }
+
+    /**
+     * Runs one tick: starts every wave and item spawn that is due,
+     * then places queued enemies up to the spawn budget.
+     *
+     * @param simulation a GameSimulation
+     */
+    public void tick(final GameSimulation simulation) {
+        ticks++;
+        final float runTime = ticks * GameSimulation.TICK_LENGTH;
+        for (int index = 0; index < waveTimers.length; index++) {
+            final WaveDefinition wave = table.getWave(index);
+            if (!wave.isActiveAt(runTime)) {
+                continue;
+            }
+            waveTimers[index] += GameSimulation.TICK_LENGTH;
+            while (waveTimers[index] >= wave.getInterval()) {
+                waveTimers[index] -= wave.getInterval();
+                queueWave(simulation, index, runTime);
+            }
+        }
+        itemTimer += GameSimulation.TICK_LENGTH;
+        while (itemTimer >= table.getItemInterval()) {
+            itemTimer -= table.getItemInterval();
+            simulation.createItem();
+        }
+        spawnQueued(simulation);
+    }
+
+    /*
+     * Queues one spawn of the wave, carrying the fraction of its count to the next.
+     */
+    private void queueWave(final GameSimulation simulation, final int waveIndex,
+                           final float runTime) {
+        countCarry[waveIndex] += table.getWave(waveIndex).getCountAt(runTime);
+        final int size = (int) countCarry[waveIndex];
+        countCarry[waveIndex] -= size;
+        if (size == 0) {
+            return;
+        }
+        float anchorX = 0;
+        float anchorY = 0;
+        switch (table.getWave(waveIndex).getFormation()) {
+            case RING:
+                anchorX = simulation.getPlayer().getX();
+                anchorY = simulation.getPlayer().getY();
+                break;
+            case LINE:
+                anchorY = randomFloat(minY, maxY);
+                break;
+            case CLUSTER:
+                anchorX = randomFloat(minX, maxX);
+                anchorY = randomFloat(minY, maxY);
+                break;
+            default:
+                break;
+        }
+        groupWaves.add(waveIndex);
+        groupSizes.add(size);
+        groupSpawned.add(0);
+        groupAnchorX.add(anchorX);
+        groupAnchorY.add(anchorY);
+        groupAngle.add(randomFloat(0, MathUtils.PI2));
+        queuedEnemies += size;
+    }
+
+    /*
+     * Places queued enemies in queue order until the budget for this tick is spent.
+     */
+    private void spawnQueued(final GameSimulation simulation) {
+        int budget = table.getSpawnBudget();
+        while (budget > 0 && groupHead < groupWaves.size) {
+            final int group = groupHead;
+            final WaveDefinition wave = table.getWave(groupWaves.get(group));
+            final int member = groupSpawned.get(group);
+            final int size = groupSizes.get(group);
+            final float x;
+            final float y;
+            switch (wave.getFormation()) {
+                case RING:
+                    final float angle = groupAngle.get(group) + MathUtils.PI2 * member / size;
+                    x = groupAnchorX.get(group) + MathUtils.cos(angle) * RING_RADIUS;
+                    y = groupAnchorY.get(group) + MathUtils.sin(angle) * RING_RADIUS;
+                    break;
+                case LINE:
+                    x = minX + (maxX - minX) * (member + 0.5f) / size;
+                    y = groupAnchorY.get(group);
+                    break;
+                case CLUSTER:
+                    x = groupAnchorX.get(group) + randomFloat(-CLUSTER_SPREAD, CLUSTER_SPREAD);
+                    y = groupAnchorY.get(group) + randomFloat(-CLUSTER_SPREAD, CLUSTER_SPREAD);
+                    break;
+                default:
+                    x = randomFloat(minX, maxX);
+                    y = randomFloat(minY, maxY);
+                    break;
+            }
+            simulation.spawnEnemy(wave.getArchetype(random.nextInt(wave.getTotalWeight())),
+                MathUtils.clamp(x, minX, maxX), MathUtils.clamp(y, minY, maxY));
+            groupSpawned.set(group, member + 1);
+            if (member + 1 == size) {
+                groupHead++;
+            }
+            queuedEnemies--;
+            budget--;
+        }
+        if (groupHead == groupWaves.size) {
+            clearGroups();
+        }
+    }
+
+    /*
+     * Empties the queue once every group in it has spawned.
+     */
+    private void clearGroups() {
+        groupWaves.clear();
+        groupSizes.clear();
+        groupSpawned.clear();
+        groupAnchorX.clear();
+        groupAnchorY.clear();
+        groupAngle.clear();
+        groupHead = 0;
+    }
+
+    /*
+     * Returns a random float from start to end, from the run's generator.
+     */
+    private float randomFloat(final float start, final float end) {
+        return start + random.nextFloat() * (end - start);
+    }
+
+    /**
+     * Returns the amount of enemies waiting for budget to spawn.
+     *
+     * @return queuedEnemies as int
+     */
+    public int getQueuedEnemies() {
+        return queuedEnemies;
+    }
+
+    /**
+     * Returns a String representation of this SpawnDirector.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SpawnDirector{");
+        builder.append("table=").append(table).append(", ");
+        builder.append("ticks=").append(ticks).append(", ");
+        builder.append("queuedEnemies=").append(queuedEnemies);
+        builder.append("}");
+        return builder.toString();
+    }
+}
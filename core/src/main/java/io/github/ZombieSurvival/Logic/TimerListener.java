@@ -0,0 +1,18 @@
+package io.github.ZombieSurvival.Logic;
+
+/**
+ * Receives the timers of a TimingWheel as they expire.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public interface TimerListener {
+    /**
+     * Called once each time a timer expires, in the tick it was due.
+     * May schedule and cancel timers, including the one expiring.
+     *
+     * @param kind an int, what the timer does, chosen by whoever scheduled it
+     * @param target an int, who the timer is for, chosen by whoever scheduled it
+     */
+    void onTimer(int kind, int target);
+}
@@ -0,0 +1,384 @@
+package io.github.ZombieSurvival.Logic;
+
+import java.util.Arrays;
+
+/**
+ * Schedules timed callbacks in whole ticks, for the player and for any entity.
+ * A hierarchical timing wheel: timers due within the next 256 ticks sit in a bucket per tick,
+ * later ones in coarser buckets that are moved down a level once as their time comes closer.
+ * A tick only visits the timers due in it, plus the occasional coarse bucket, so its cost
+ * follows the timers expiring rather than every timer scheduled.
+ * Timers are parallel arrays linked into their bucket and recycled through a free list,
+ * so scheduling only allocates when more timers are live than ever before,
+ * and expiring never allocates.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class TimingWheel {
+    /**
+     * Handle that never refers to a timer, for callers to mark that none is scheduled.
+     */
+    public static final int NO_TIMER = -1;
+    private static final int ROOT_BITS = 8;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+    private static final int LEVEL_BITS = 6;
+    private static final int LEVEL_SIZE = 1 << LEVEL_BITS;
+    private static final int LEVEL_MASK = LEVEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    // Furthest ahead a timer is placed, later ones wait in the last bucket and are placed again
+    private static final long HORIZON = 1L << (ROOT_BITS + LEVEL_BITS * (LEVELS - 1));
+    // A handle is a timer id in its low bits and the id's generation above them
+    private static final int ID_BITS = 20;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - ID_BITS)) - 1;
+    private static final int MAX_TIMERS = 1 << ID_BITS;
+    private static final int INITIAL_CAPACITY = 64;
+    // Bucket of a timer that is not in one
+    private static final int FREE = -1;
+    private static final int EXPIRING = -2;
+    private static final int CANCELLED = -3;
+    private static final int NONE = -1;
+
+    private final TimerListener listener;
+    // First timer of each bucket, the root buckets then each coarser level's
+    private final int[] heads;
+    // By timer id
+    private long[] deadlines;
+    private int[] periods;
+    private int[] kinds;
+    private int[] targets;
+    private int[] buckets;
+    private int[] generations;
+    private int[] nexts;
+    private int[] previous;
+    private int freeHead;
+    // Timer whose callback is running, or NONE
+    private int firingId;
+    private int activeCount;
+    private long currentTick;
+
+    /**
+     * Constructs an empty TimingWheel at tick 0.
+     *
+     * @param listener a TimerListener receiving every expired timer
+     * @throws IllegalArgumentException if listener is null
+     */
+    public TimingWheel(final TimerListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("There is no timer listener.");
+        }
+        this.listener = listener;
+        heads = new int[ROOT_SIZE + (LEVELS - 1) * LEVEL_SIZE];
+        for (int bucket = 0; bucket < heads.length; bucket++) {
+            heads[bucket] = NONE;
+        }
+        deadlines = new long[0];
+        periods = new int[0];
+        kinds = new int[0];
+        targets = new int[0];
+        buckets = new int[0];
+        generations = new int[0];
+        nexts = new int[0];
+        previous = new int[0];
+        freeHead = NONE;
+        firingId = NONE;
+        activeCount = 0;
+        currentTick = 0;
+        grow(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Schedules a timer that expires once, the specified amount of ticks from now.
+     *
+     * @param delay an int of ticks, at least 1
+     * @param kind an int passed to the listener
+     * @param target an int passed to the listener
+     * @return a handle to cancel the timer with
+     * @throws IllegalArgumentException if delay is less than 1
+     * @throws IllegalStateException if too many timers are live
+     */
+    public int schedule(final int delay, final int kind, final int target) {
+        return add(delay, 0, kind, target);
+    }
+
+    /**
+     * Schedules a timer that expires the specified amount of ticks from now,
+     * then again every period until cancelled.
+     *
+     * @param delay an int of ticks, at least 1
+     * @param period an int of ticks, at least 1
+     * @param kind an int passed to the listener
+     * @param target an int passed to the listener
+     * @return a handle to cancel the timer with
+     * @throws IllegalArgumentException if delay or period is less than 1
+     * @throws IllegalStateException if too many timers are live
+     */
+    public int scheduleRepeating(final int delay, final int period, final int kind,
+                                 final int target) {
+        if (period < 1) {
+            throw new IllegalArgumentException("Timer period must be at least one tick.");
+        }
+        return add(delay, period, kind, target);
+    }
+
+    /*
+     * Takes a free timer, fills it in and places it in its bucket.
+     */
+    private int add(final int delay, final int period, final int kind, final int target) {
+        if (delay < 1) {
+            throw new IllegalArgumentException("Timer delay must be at least one tick.");
+        }
+        if (freeHead == NONE) {
+            grow(deadlines.length * 2);
+        }
+        final int id = freeHead;
+        freeHead = nexts[id];
+        deadlines[id] = currentTick + delay;
+        periods[id] = period;
+        kinds[id] = kind;
+        targets[id] = target;
+        insert(id);
+        activeCount++;
+        return generations[id] << ID_BITS | id;
+    }
+
+    /**
+     * Cancels the timer, so it never expires again. Cancelling a timer that has already
+     * expired or been cancelled does nothing, even if its id now belongs to a new timer.
+     *
+     * @param handle an int returned when the timer was scheduled, or NO_TIMER
+     * @return true if the timer was cancelled, otherwise false
+     */
+    public boolean cancel(final int handle) {
+        if (!isScheduled(handle)) {
+            return false;
+        }
+        final int id = handle & ID_MASK;
+        if (buckets[id] == EXPIRING) {
+            // Still linked into the expiring list, which frees it once it gets there
+            buckets[id] = CANCELLED;
+            generations[id] = (generations[id] + 1) & GENERATION_MASK;
+        } else {
+            unlink(id);
+            release(id);
+        }
+        activeCount--;
+        return true;
+    }
+
+    /**
+     * Returns true if the timer will still expire, including a repeating timer
+     * inside its own callback.
+     *
+     * @param handle an int returned when the timer was scheduled, or NO_TIMER
+     * @return true if scheduled, otherwise false
+     */
+    public boolean isScheduled(final int handle) {
+        if (!isLive(handle)) {
+            return false;
+        }
+        final int id = handle & ID_MASK;
+        return id != firingId || periods[id] > 0;
+    }
+
+    /**
+     * Returns the ticks left until the timer next expires.
+     *
+     * @param handle an int returned when the timer was scheduled, or NO_TIMER
+     * @return the ticks as long, or -1 if the timer is not scheduled
+     */
+    public long getRemainingTicks(final int handle) {
+        if (!isScheduled(handle)) {
+            return -1;
+        }
+        final int id = handle & ID_MASK;
+        return id == firingId ? periods[id] : deadlines[id] - currentTick;
+    }
+
+    /*
+     * Returns true if the handle refers to the timer currently using its id.
+     */
+    private boolean isLive(final int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        final int id = handle & ID_MASK;
+        return id < deadlines.length && buckets[id] != FREE && buckets[id] != CANCELLED
+            && generations[id] == handle >>> ID_BITS;
+    }
+
+    /**
+     * Advances one tick, moving coarse buckets that have come due down a level
+     * and passing every timer due this tick to the listener.
+     */
+    public void tick() {
+        final long tick = currentTick + 1;
+        final int index = (int) (tick & ROOT_MASK);
+        if (index == 0) {
+            // Each level wraps once per turn of the next, so only move further up on a wrap
+            for (int level = 1; level < LEVELS; level++) {
+                final int slot = (int) ((tick >> (ROOT_BITS + LEVEL_BITS * (level - 1)))
+                    & LEVEL_MASK);
+                cascade(ROOT_SIZE + (level - 1) * LEVEL_SIZE + slot);
+                if (slot != 0) {
+                    break;
+                }
+            }
+        }
+        currentTick = tick;
+        expire(index);
+    }
+
+    /*
+     * Places every timer of a coarse bucket again, now that they are closer.
+     */
+    private void cascade(final int bucket) {
+        int id = heads[bucket];
+        heads[bucket] = NONE;
+        while (id != NONE) {
+            final int next = nexts[id];
+            insert(id);
+            id = next;
+        }
+    }
+
+    /*
+     * Passes every timer of the root bucket to the listener, then frees or reschedules it.
+     * The whole list is marked first, so callbacks can cancel timers further along it.
+     */
+    private void expire(final int bucket) {
+        int id = heads[bucket];
+        heads[bucket] = NONE;
+        for (int marked = id; marked != NONE; marked = nexts[marked]) {
+            buckets[marked] = EXPIRING;
+        }
+        while (id != NONE) {
+            final int next = nexts[id];
+            if (buckets[id] == EXPIRING) {
+                firingId = id;
+                listener.onTimer(kinds[id], targets[id]);
+                firingId = NONE;
+            }
+            if (buckets[id] == EXPIRING && periods[id] > 0) {
+                deadlines[id] += periods[id];
+                insert(id);
+            } else {
+                if (buckets[id] == EXPIRING) {
+                    activeCount--;
+                }
+                release(id);
+            }
+            id = next;
+        }
+    }
+
+    /*
+     * Links the timer into the bucket for its deadline: a root bucket when due within
+     * its turn, otherwise the finest level whose turn reaches the deadline.
+     */
+    private void insert(final int id) {
+        final long base = currentTick + 1;
+        final long until = Math.min(deadlines[id] - base, HORIZON - 1);
+        final int bucket;
+        if (until < ROOT_SIZE) {
+            bucket = (int) (deadlines[id] & ROOT_MASK);
+        } else {
+            int level = 1;
+            while (until >= 1L << (ROOT_BITS + LEVEL_BITS * level)) {
+                level++;
+            }
+            final long position = base + until;
+            bucket = ROOT_SIZE + (level - 1) * LEVEL_SIZE
+                + (int) ((position >> (ROOT_BITS + LEVEL_BITS * (level - 1))) & LEVEL_MASK);
+        }
+        previous[id] = NONE;
+        nexts[id] = heads[bucket];
+        if (heads[bucket] != NONE) {
+            previous[heads[bucket]] = id;
+        }
+        heads[bucket] = id;
+        buckets[id] = bucket;
+    }
+
+    /*
+     * Unlinks the timer from its bucket.
+     */
+    private void unlink(final int id) {
+        if (previous[id] == NONE) {
+            heads[buckets[id]] = nexts[id];
+        } else {
+            nexts[previous[id]] = nexts[id];
+        }
+        if (nexts[id] != NONE) {
+            previous[nexts[id]] = previous[id];
+        }
+    }
+
+    /*
+     * Returns the timer to the free list, invalidating its handle.
+     */
+    private void release(final int id) {
+        buckets[id] = FREE;
+        generations[id] = (generations[id] + 1) & GENERATION_MASK;
+        nexts[id] = freeHead;
+        freeHead = id;
+    }
+
+    /*
+     * Enlarges the timer arrays to capacity and adds the new timers to the free list.
+     */
+    private void grow(final int capacity) {
+        final int oldCapacity = deadlines.length;
+        if (capacity > MAX_TIMERS) {
+            throw new IllegalStateException("Too many timers are scheduled.");
+        }
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        periods = Arrays.copyOf(periods, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+        generations = Arrays.copyOf(generations, capacity);
+        nexts = Arrays.copyOf(nexts, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        for (int id = capacity - 1; id >= oldCapacity; id--) {
+            buckets[id] = FREE;
+            nexts[id] = freeHead;
+            freeHead = id;
+        }
+    }
+
+    /**
+     * Returns the amount of ticks run.
+     *
+     * @return currentTick as long
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    /**
+     * Returns the amount of timers that will still expire.
+     *
+     * @return activeCount as int
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * Returns a String representation of this TimingWheel.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("TimingWheel{");
+        builder.append("currentTick=").append(currentTick).append(", ");
+        builder.append("activeCount=").append(activeCount).append(", ");
+        builder.append("capacity=").append(deadlines.length);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,201 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.utils.JsonValue;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+
+/**
+ * One repeating wave of enemies: when it starts and stops, how often it spawns,
+ * how many enemies it spawns and how that grows, their formation and their mix of types.
+ * Immutable, so one definition can be shared by every run.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class WaveDefinition {
+    private final String name;
+    private final float start;
+    private final float end;
+    private final float interval;
+    private final float count;
+    private final float countPerMinute;
+    private final Formation formation;
+    // Weight of each enemy archetype by index, and their sum
+    private final int[] mix;
+    private final int totalWeight;
+
+    /**
+     * Constructs a WaveDefinition.
+     *
+     * @param name a String
+     * @param start a float, seconds into the run of the first spawn's interval
+     * @param end a float, seconds into the run after which it stops spawning
+     * @param interval a float, seconds between spawns
+     * @param count a float, enemies per spawn at the start, fractions carried to later spawns
+     * @param countPerMinute a float, enemies added to the count per minute since start
+     * @param formation a Formation
+     * @param mix an int array of weights, indexed by enemy archetype
+     * @throws IllegalArgumentException if name, formation or mix is null, the times are
+     *                                  out of order, interval is not positive, count or
+     *                                  countPerMinute is negative, or mix has no weight
+     */
+    public WaveDefinition(final String name, final float start, final float end,
+                          final float interval, final float count, final float countPerMinute,
+                          final Formation formation, final int[] mix) {
+        if (name == null || formation == null || mix == null) {
+            throw new IllegalArgumentException("Wave is missing its name, formation or mix.");
+        }
+        if (start < 0 || end < start) {
+            throw new IllegalArgumentException("Wave " + name + " must end after it starts.");
+        }
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Wave " + name + " interval must be positive.");
+        }
+        if (count < 0 || countPerMinute < 0) {
+            throw new IllegalArgumentException("Wave " + name + " count cannot be negative.");
+        }
+        int weights = 0;
+        for (final int weight : mix) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Wave " + name + " weight is negative.");
+            }
+            weights += weight;
+        }
+        if (weights == 0) {
+            throw new IllegalArgumentException("Wave " + name + " has no enemy types.");
+        }
+        this.name = name;
+        this.start = start;
+        this.end = end;
+        this.interval = interval;
+        this.count = count;
+        this.countPerMinute = countPerMinute;
+        this.formation = formation;
+        this.mix = mix.clone();
+        this.totalWeight = weights;
+    }
+
+    /**
+     * Reads a WaveDefinition from a JSON object, with its mix naming enemy archetypes.
+     * Only name, interval and mix are required; a missing end never stops the wave.
+     *
+     * @param value a JsonValue object
+     * @param archetypes an ArchetypeRegistry the mix's names are looked up in
+     * @return a new WaveDefinition
+     * @throws IllegalArgumentException if a required field is missing, a value is invalid
+     *                                  or the mix names an unknown enemy
+     */
+    public static WaveDefinition fromJson(final JsonValue value,
+                                          final ArchetypeRegistry archetypes) {
+        final JsonValue mixValue = value.get("mix");
+        if (mixValue == null) {
+            throw new IllegalArgumentException("Wave is missing its mix.");
+        }
+        final int[] weights = new int[archetypes.getEnemyCount()];
+        for (final JsonValue weight : mixValue) {
+            final int archetype = archetypes.findEnemy(weight.name);
+            if (archetype == -1) {
+                throw new IllegalArgumentException("Wave mixes unknown enemy " + weight.name + ".");
+            }
+            weights[archetype] = weight.asInt();
+        }
+        return new WaveDefinition(value.getString("name"),
+            value.getFloat("start", 0f),
+            value.getFloat("end", Float.POSITIVE_INFINITY),
+            value.getFloat("interval"),
+            value.getFloat("count", 1f),
+            value.getFloat("countPerMinute", 0f),
+            Formation.valueOf(value.getString("formation", Formation.SCATTER.name())),
+            weights);
+    }
+
+    /**
+     * Returns the enemy count of a spawn at the specified time, including its ramp.
+     *
+     * @param runTime a float, seconds into the run
+     * @return the count as float, fractions are carried by the caller
+     */
+    public float getCountAt(final float runTime) {
+        final float secondsPerMinute = 60f;
+        return count + countPerMinute * Math.max(0f, runTime - start) / secondsPerMinute;
+    }
+
+    /**
+     * Returns true if the wave spawns at the specified time.
+     *
+     * @param runTime a float, seconds into the run
+     * @return true if active, otherwise false
+     */
+    public boolean isActiveAt(final float runTime) {
+        return runTime >= start && runTime <= end;
+    }
+
+    /**
+     * Returns the enemy archetype the roll lands on in the mix.
+     *
+     * @param roll an int from 0 up to the total weight
+     * @return the archetype index as int
+     */
+    public int getArchetype(final int roll) {
+        int remaining = roll;
+        for (int archetype = 0; archetype < mix.length; archetype++) {
+            remaining -= mix[archetype];
+            if (remaining < 0) {
+                return archetype;
+            }
+        }
+        return mix.length - 1;
+    }
+
+    /**
+     * Returns the sum of every weight in the mix.
+     *
+     * @return totalWeight as int
+     */
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+    /**
+     * Returns the name of the wave.
+     *
+     * @return name as String
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Returns the seconds between spawns.
+     *
+     * @return interval as float
+     */
+    public float getInterval() {
+        return interval;
+    }
+    /**
+     * Returns the formation of the wave.
+     *
+     * @return formation as Formation
+     */
+    public Formation getFormation() {
+        return formation;
+    }
+
+    /**
+     * Returns a String representation of this WaveDefinition.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("WaveDefinition{");
+        builder.append("name=").append(name).append(", ");
+        builder.append("start=").append(start).append(", ");
+        builder.append("end=").append(end).append(", ");
+        builder.append("interval=").append(interval).append(", ");
+        builder.append("count=").append(count).append(", ");
+        builder.append("countPerMinute=").append(countPerMinute).append(", ");
+        builder.append("formation=").append(formation);
+        builder.append("}");
+        return builder.toString();
+    }
+}
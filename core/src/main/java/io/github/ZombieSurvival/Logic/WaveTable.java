@@ -0,0 +1,172 @@
+package io.github.ZombieSurvival.Logic;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The waves of a run, with how many enemies may spawn in one tick and how often items spawn.
+ * Read from JSON, such as the waves.json resource shipped with the game, against the
+ * archetypes its waves spawn. Immutable, so the default table is read once and shared
+ * by every run.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class WaveTable {
+    /**
+     * Classpath location of the default wave table.
+     */
+    public static final String DEFAULT_RESOURCE = "/waves.json";
+    private static WaveTable defaultTable;
+
+    private final Array<WaveDefinition> waves;
+    private final ArchetypeRegistry archetypes;
+    private final int spawnBudget;
+    private final float itemInterval;
+
+    /**
+     * Constructs a WaveTable.
+     *
+     * @param waves an Array of WaveDefinition, copied
+     * @param archetypes an ArchetypeRegistry the waves' mixes index
+     * @param spawnBudget an int, the most enemies spawned in one tick
+     * @param itemInterval a float, seconds between item spawns
+     * @throws IllegalArgumentException if waves or archetypes is null, or spawnBudget or
+     *                                  itemInterval is not positive
+     */
+    public WaveTable(final Array<WaveDefinition> waves, final ArchetypeRegistry archetypes,
+                     final int spawnBudget, final float itemInterval) {
+        if (waves == null || archetypes == null) {
+            throw new IllegalArgumentException("There are no waves or archetypes.");
+        }
+        if (spawnBudget <= 0) {
+            throw new IllegalArgumentException("Spawn budget must be positive.");
+        }
+        if (itemInterval <= 0) {
+            throw new IllegalArgumentException("Item interval must be positive.");
+        }
+        this.waves = new Array<>(waves);
+        this.archetypes = archetypes;
+        this.spawnBudget = spawnBudget;
+        this.itemInterval = itemInterval;
+    }
+
+    /**
+     * Reads a WaveTable from JSON text.
+     *
+     * @param json a String
+     * @param archetypes an ArchetypeRegistry the waves' mixes name enemies of
+     * @return a new WaveTable
+     * @throws IllegalArgumentException if the JSON is malformed or a value is invalid
+     */
+    public static WaveTable parse(final String json, final ArchetypeRegistry archetypes) {
+        try {
+            return fromJson(new JsonReader().parse(json), archetypes);
+        } catch (SerializationException error) {
+            throw new IllegalArgumentException("Wave table is not valid JSON.", error);
+        }
+    }
+
+    /**
+     * Returns the wave table shipped with the game, reading it on first use
+     * against the default archetypes.
+     *
+     * @return the default WaveTable
+     * @throws IllegalStateException if the resource is missing or invalid
+     */
+    public static synchronized WaveTable getDefault() {
+        if (defaultTable == null) {
+            try (InputStream input = WaveTable.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException(DEFAULT_RESOURCE + " is missing.");
+                }
+                defaultTable = fromJson(new JsonReader().parse(input),
+                    ArchetypeRegistry.getDefault());
+            } catch (IOException | SerializationException | IllegalArgumentException error) {
+                throw new IllegalStateException("Failed to read " + DEFAULT_RESOURCE + ".",
+                    error);
+            }
+        }
+        return defaultTable;
+    }
+
+    /*
+     * Reads a WaveTable from a parsed JSON object.
+     */
+    private static WaveTable fromJson(final JsonValue root,
+                                      final ArchetypeRegistry archetypes) {
+        final Array<WaveDefinition> waves = new Array<>();
+        final JsonValue waveValues = root.get("waves");
+        if (waveValues != null) {
+            for (final JsonValue wave : waveValues) {
+                waves.add(WaveDefinition.fromJson(wave, archetypes));
+            }
+        }
+        return new WaveTable(waves, archetypes, root.getInt("spawnBudget"),
+            root.getFloat("itemInterval"));
+    }
+
+    /**
+     * Returns the amount of waves.
+     *
+     * @return an int
+     */
+    public int getWaveCount() {
+        return waves.size;
+    }
+    /**
+     * Returns the wave at index.
+     *
+     * @param index an int
+     * @return a WaveDefinition
+     */
+    public WaveDefinition getWave(final int index) {
+        return waves.get(index);
+    }
+    /**
+     * Returns the archetypes the waves spawn.
+     *
+     * @return archetypes as ArchetypeRegistry
+     */
+    public ArchetypeRegistry getArchetypes() {
+        return archetypes;
+    }
+    /**
+     * Returns the most enemies spawned in one tick.
+     *
+     * @return spawnBudget as int
+     */
+    public int getSpawnBudget() {
+        return spawnBudget;
+    }
+    /**
+     * Returns the seconds between item spawns.
+     *
+     * @return itemInterval as float
+     */
+    public float getItemInterval() {
+        return itemInterval;
+    }
+
+    /**
+     * Returns a String representation of this WaveTable.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("WaveTable{");
+        builder.append("waves=").append(waves.size).append(", ");
+        builder.append("spawnBudget=").append(spawnBudget).append(", ");
+        builder.append("itemInterval=").append(itemInterval);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,295 @@
+package io.github.ZombieSurvival.Profiling;
+
+import java.util.Arrays;
+
+/**
+ * Times the phases of every frame with System.nanoTime and keeps the last frames
+ * in preallocated ring buffers, so profiling never allocates while the game runs.
+ * A phase may be timed several times in a frame, such as once per simulation tick;
+ * its times are summed until the frame ends.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class FrameProfiler {
+    /**
+     * Polling input into the input command.
+     */
+    public static final int INPUT = 0;
+    /**
+     * Advancing and checking the gameplay timers, every tick.
+     */
+    public static final int TIMERS = 1;
+    /**
+     * Spawning enemies and items, every tick.
+     */
+    public static final int SPAWN = 2;
+    /**
+     * Movement, collisions and removing dead entities, every tick.
+     */
+    public static final int LOGIC = 3;
+    /**
+     * Drawing the frame.
+     */
+    public static final int DRAW = 4;
+    /**
+     * The whole frame.
+     */
+    public static final int FRAME = 5;
+    /**
+     * Amount of timed phases.
+     */
+    public static final int PHASE_COUNT = 6;
+    /**
+     * Stored instead of a time for a phase that was not timed, such as the tick phases
+     * while the simulation runs on its own thread.
+     */
+    public static final long UNTIMED = -1;
+    private static final String[] PHASE_NAMES = {"input", "timers", "spawn", "logic", "draw",
+        "frame"};
+
+    private final int capacity;
+    // Ring buffers by phase then frame slot, and counts by frame slot
+    private final long[][] phaseNanos;
+    private final int[] enemyCounts;
+    private final int[] itemCounts;
+    private final int[] renderCalls;
+    // Phase times of the frame in progress, and whether each phase is timed at all
+    private final long[] currentNanos;
+    private final boolean[] timedPhases;
+    // Counts of the frame in progress, if a screen profiled one
+    private boolean frameInProgress;
+    private int currentEnemies;
+    private int currentItems;
+    // Sorted copy of one phase for percentiles
+    private final long[] sortedNanos;
+    private long frameCount;
+    private MetricsWriter metricsWriter;
+
+    /**
+     * Constructs a FrameProfiler that keeps the specified amount of frames.
+     *
+     * @param capacity an int
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public FrameProfiler(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.capacity = capacity;
+        phaseNanos = new long[PHASE_COUNT][capacity];
+        enemyCounts = new int[capacity];
+        itemCounts = new int[capacity];
+        renderCalls = new int[capacity];
+        currentNanos = new long[PHASE_COUNT];
+        timedPhases = new boolean[PHASE_COUNT];
+        Arrays.fill(timedPhases, true);
+        frameInProgress = false;
+        currentEnemies = 0;
+        currentItems = 0;
+        sortedNanos = new long[capacity];
+        frameCount = 0;
+        metricsWriter = null;
+    }
+
+    /**
+     * Returns the name of the phase, as used in the overlay and metrics files.
+     *
+     * @param phase an int, one of the phases of this class
+     * @return the name as String
+     */
+    public static String getPhaseName(final int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * Hands every full ring of frames to the writer to be saved in the background.
+     *
+     * @param writer a MetricsWriter, or null to stop saving
+     */
+    public void setMetricsWriter(final MetricsWriter writer) {
+        metricsWriter = writer;
+    }
+
+    /**
+     * Sets whether the phase is timed. Frames stored while it is not hold UNTIMED for it,
+     * so a phase timed elsewhere is not mistaken for one that took no time.
+     *
+     * @param phase an int, one of the phases of this class
+     * @param timed a boolean
+     */
+    public void setPhaseTimed(final int phase, final boolean timed) {
+        timedPhases[phase] = timed;
+    }
+
+    /**
+     * Returns the time a phase starts.
+     *
+     * @return the current time in nanoseconds
+     */
+    public long startPhase() {
+        return System.nanoTime();
+    }
+    /**
+     * Adds the time since start to the phase in the frame in progress.
+     * Returns the current time, so the next phase can start from it.
+     *
+     * @param phase an int, one of the phases of this class
+     * @param start a long, returned by startPhase or endPhase
+     * @return the current time in nanoseconds
+     */
+    public long endPhase(final int phase, final long start) {
+        final long now = System.nanoTime();
+        currentNanos[phase] += now - start;
+        return now;
+    }
+
+    /**
+     * Sets the entity counts of the frame in progress, marking it to be stored by endFrame.
+     *
+     * @param enemies an int, the amount of enemies alive
+     * @param items an int, the amount of items on the platform
+     */
+    public void setEntityCounts(final int enemies, final int items) {
+        currentEnemies = enemies;
+        currentItems = items;
+        frameInProgress = true;
+    }
+    /**
+     * Stores the frame in progress with the draw calls it took and starts the next frame.
+     * Does nothing if no entity counts were set this frame, such as on the menus.
+     * Called once the whole frame is drawn, so its draw calls are known.
+     *
+     * @param frameRenderCalls an int, the draw calls of the sprite batch
+     */
+    public void endFrame(final int frameRenderCalls) {
+        if (!frameInProgress) {
+            return;
+        }
+        frameInProgress = false;
+        final int slot = (int) (frameCount % capacity);
+        for (int phase = 0; phase < PHASE_COUNT; phase++) {
+            phaseNanos[phase][slot] = timedPhases[phase] ? currentNanos[phase] : UNTIMED;
+            currentNanos[phase] = 0;
+        }
+        enemyCounts[slot] = currentEnemies;
+        itemCounts[slot] = currentItems;
+        renderCalls[slot] = frameRenderCalls;
+        frameCount++;
+        if (metricsWriter != null && frameCount % capacity == 0) {
+            metricsWriter.submit(this, capacity);
+        }
+    }
+
+    /**
+     * Hands the frames not yet saved to the writer, such as when the game exits.
+     */
+    public void submitRemaining() {
+        final int remaining = (int) (frameCount % capacity);
+        if (metricsWriter != null && remaining > 0) {
+            metricsWriter.submit(this, remaining);
+        }
+    }
+
+    /**
+     * Returns the time of the phase at or below which the percentile of stored frames fall,
+     * counting only the frames that timed the phase.
+     *
+     * @param phase an int, one of the phases of this class
+     * @param percentile an int from 1 to 100
+     * @return the time in nanoseconds, 0 if no frame is stored, or UNTIMED if no stored
+     *         frame timed the phase
+     */
+    public long getPercentileNanos(final int phase, final int percentile) {
+        final int stored = getStoredFrames();
+        if (stored == 0) {
+            return 0;
+        }
+        System.arraycopy(phaseNanos[phase], 0, sortedNanos, 0, stored);
+        Arrays.sort(sortedNanos, 0, stored);
+        // Untimed frames sort first and are skipped
+        int untimed = 0;
+        while (untimed < stored && sortedNanos[untimed] == UNTIMED) {
+            untimed++;
+        }
+        final int timed = stored - untimed;
+        if (timed == 0) {
+            return UNTIMED;
+        }
+        // Nearest rank
+        final int rank = (timed * percentile + 99) / 100;
+        return sortedNanos[untimed + Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * Returns the amount of frames ended since the profiler was made.
+     *
+     * @return frameCount as long
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+    /**
+     * Returns the amount of frames kept in the ring buffers.
+     *
+     * @return an int up to the capacity
+     */
+    public int getStoredFrames() {
+        return (int) Math.min(frameCount, capacity);
+    }
+    /**
+     * Returns the capacity of the ring buffers.
+     *
+     * @return capacity as int
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /*
+     * Returns the ring slot of the frame, which must still be stored.
+     */
+    int getSlot(final long frame) {
+        return (int) (frame % capacity);
+    }
+    /*
+     * Returns the time of the phase in the frame slot.
+     */
+    long getPhaseNanos(final int phase, final int slot) {
+        return phaseNanos[phase][slot];
+    }
+    /*
+     * Returns the amount of enemies in the frame slot.
+     */
+    int getEnemyCount(final int slot) {
+        return enemyCounts[slot];
+    }
+    /*
+     * Returns the amount of items in the frame slot.
+     */
+    int getItemCount(final int slot) {
+        return itemCounts[slot];
+    }
+    /*
+     * Returns the draw calls in the frame slot.
+     */
+    int getRenderCalls(final int slot) {
+        return renderCalls[slot];
+    }
+
+    /**
+     * Returns a String representation of this FrameProfiler.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("FrameProfiler{");
+        builder.append("capacity=").append(capacity).append(", ");
+        builder.append("frameCount=").append(frameCount).append(", ");
+        builder.append("writing=").append(metricsWriter != null);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.ZombieSurvival.Profiling;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the frames of a FrameProfiler to a CSV file on its own thread, one row per frame,
+ * so long sessions can be charted without the render thread waiting on the disk.
+ * Frames are copied into a preallocated block; a block that arrives while the previous
+ * one is still being written is dropped and counted. Phases that were not timed are
+ * left empty.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class MetricsWriter implements Runnable {
+    private final Path path;
+    private final Object lock;
+    private final Thread thread;
+    // Block of frames waiting to be written, guarded by lock
+    private final long[][] phaseNanos;
+    private final int[] enemyCounts;
+    private final int[] itemCounts;
+    private final int[] renderCalls;
+    private long firstFrame;
+    private int frames;
+    private boolean pending;
+    private boolean closed;
+    private int droppedBlocks;
+    // Only used by the writer thread
+    private final StringBuilder rows;
+    private boolean headerWritten;
+
+    /**
+     * Constructs a MetricsWriter that replaces the file at path and starts its thread.
+     *
+     * @param path a Path
+     * @param capacity an int, the most frames handed over at once
+     * @throws IllegalArgumentException if path is null or capacity is not positive
+     */
+    public MetricsWriter(final Path path, final int capacity) {
+        if (path == null) {
+            throw new IllegalArgumentException("There is no metrics file to write to.");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.path = path;
+        lock = new Object();
+        phaseNanos = new long[FrameProfiler.PHASE_COUNT][capacity];
+        enemyCounts = new int[capacity];
+        itemCounts = new int[capacity];
+        renderCalls = new int[capacity];
+        firstFrame = 0;
+        frames = 0;
+        pending = false;
+        closed = false;
+        droppedBlocks = 0;
+        rows = new StringBuilder();
+        headerWritten = false;
+        thread = new Thread(this, "metrics-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /*
+     * Copies the last count frames of the profiler to be written. Never blocks.
+     */
+    void submit(final FrameProfiler profiler, final int count) {
+        synchronized (lock) {
+            if (pending || closed) {
+                droppedBlocks++;
+                return;
+            }
+            firstFrame = profiler.getFrameCount() - count;
+            for (int index = 0; index < count; index++) {
+                final int slot = profiler.getSlot(firstFrame + index);
+                for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+                    phaseNanos[phase][index] = profiler.getPhaseNanos(phase, slot);
+                }
+                enemyCounts[index] = profiler.getEnemyCount(slot);
+                itemCounts[index] = profiler.getItemCount(slot);
+                renderCalls[index] = profiler.getRenderCalls(slot);
+            }
+            frames = count;
+            pending = true;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Writes the block waiting to be written, then stops the thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    public void close() throws InterruptedException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        thread.join();
+    }
+
+    /**
+     * Writes each submitted block of frames, until closed.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            synchronized (lock) {
+                try {
+                    while (!pending && !closed) {
+                        lock.wait();
+                    }
+                } catch (InterruptedException error) {
+                    return;
+                }
+                if (!pending) {
+                    return;
+                }
+            }
+            // The block is left alone while pending, so it is read without the lock
+            final boolean firstWrite = !headerWritten;
+            formatRows();
+            synchronized (lock) {
+                pending = false;
+            }
+            try {
+                // Each session starts a new file
+                Files.write(path, rows.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    firstWrite ? StandardOpenOption.TRUNCATE_EXISTING : StandardOpenOption.APPEND);
+            } catch (IOException error) {
+                System.out.println("Failed to write metrics file.");
+            }
+        }
+    }
+
+    /*
+     * Formats the waiting block as CSV rows, preceded by the header on the first write.
+     */
+    private void formatRows() {
+        rows.setLength(0);
+        if (!headerWritten) {
+            rows.append("frame");
+            for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+                rows.append(',').append(FrameProfiler.getPhaseName(phase)).append("_ns");
+            }
+            rows.append(",enemies,items,render_calls\n");
+            headerWritten = true;
+        }
+        for (int index = 0; index < frames; index++) {
+            rows.append(firstFrame + index);
+            for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+                rows.append(',');
+                if (phaseNanos[phase][index] != FrameProfiler.UNTIMED) {
+                    rows.append(phaseNanos[phase][index]);
+                }
+            }
+            rows.append(',').append(enemyCounts[index]);
+            rows.append(',').append(itemCounts[index]);
+            rows.append(',').append(renderCalls[index]).append('\n');
+        }
+    }
+
+    /**
+     * Returns a String representation of this MetricsWriter.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("MetricsWriter{");
+        builder.append("path=").append(path).append(", ");
+        synchronized (lock) {
+            builder.append("pending=").append(pending).append(", ");
+            builder.append("droppedBlocks=").append(droppedBlocks);
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+}
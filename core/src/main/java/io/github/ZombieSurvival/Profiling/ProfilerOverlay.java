@@ -0,0 +1,115 @@
+package io.github.ZombieSurvival.Profiling;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * Draws the p50 and p99 time of every profiled phase over the last frames,
+ * with the entity counts and draw calls of the last frame. Phases that were not timed
+ * show a dash.
+ * Text is built in one reused StringBuilder, so drawing the overlay does not allocate.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class ProfilerOverlay {
+    private static final int NANOS_PER_MICRO = 1000;
+    // The font only has capitals
+    private static final String[] PHASE_LABELS = new String[FrameProfiler.PHASE_COUNT];
+
+    static {
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            PHASE_LABELS[phase] = FrameProfiler.getPhaseName(phase).toUpperCase();
+        }
+    }
+
+    private final FrameProfiler profiler;
+    private final StringBuilder text;
+    private boolean visible;
+
+    /**
+     * Constructs a hidden ProfilerOverlay of the specified profiler.
+     *
+     * @param profiler a FrameProfiler
+     * @throws IllegalArgumentException if profiler is null
+     */
+    public ProfilerOverlay(final FrameProfiler profiler) {
+        if (profiler == null) {
+            throw new IllegalArgumentException("There is no profiler to show.");
+        }
+        this.profiler = profiler;
+        text = new StringBuilder();
+        visible = false;
+    }
+
+    /**
+     * Shows the overlay if hidden, otherwise hides it.
+     */
+    public void toggle() {
+        visible = !visible;
+    }
+    /**
+     * Returns true if the overlay is drawn.
+     *
+     * @return visible as boolean
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Draws the overlay with its top left corner at x and y, if visible.
+     *
+     * @param batch a SpriteBatch that has begun
+     * @param font a BitmapFont
+     * @param x a float
+     * @param y a float
+     * @param enemies an int, the amount of enemies alive
+     * @param items an int, the amount of items on the platform
+     * @param renderCalls an int, the draw calls of the sprite batch in the last frame
+     */
+    public void draw(final SpriteBatch batch, final BitmapFont font, final float x,
+                     final float y, final int enemies, final int items, final int renderCalls) {
+        if (!visible) {
+            return;
+        }
+        text.setLength(0);
+        text.append("PHASE  P50 US  P99 US\n");
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            text.append(PHASE_LABELS[phase]).append("  ");
+            appendMicros(profiler.getPercentileNanos(phase, 50));
+            text.append("  ");
+            appendMicros(profiler.getPercentileNanos(phase, 99));
+            text.append('\n');
+        }
+        text.append("ENEMIES ").append(enemies).append("  ITEMS ").append(items).append('\n');
+        text.append("RENDER CALLS ").append(renderCalls);
+        font.draw(batch, text, x, y);
+    }
+
+    /*
+     * Appends the time in microseconds, or a dash if the phase was not timed.
+     */
+    private void appendMicros(final long nanos) {
+        if (nanos == FrameProfiler.UNTIMED) {
+            text.append('-');
+        } else {
+            text.append(nanos / NANOS_PER_MICRO);
+        }
+    }
+
+    /**
+     * Returns a String representation of this ProfilerOverlay.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("ProfilerOverlay{");
+        builder.append("visible=").append(visible).append(", ");
+        builder.append("frames=").append(profiler.getStoredFrames());
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -2,20 +2,29 @@ package io.github.ZombieSurvival;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.ScreenUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
+import io.github.ZombieSurvival.Assets.AssetService;
+import io.github.ZombieSurvival.Assets.MusicService;
+import io.github.ZombieSurvival.Logic.InputLog;
+import io.github.ZombieSurvival.Logic.InputLogWriter;
+import io.github.ZombieSurvival.Profiling.FrameProfiler;
+import io.github.ZombieSurvival.Profiling.MetricsWriter;
+import io.github.ZombieSurvival.Save.ProfileState;
+import io.github.ZombieSurvival.Save.SaveStore;
+import io.github.ZombieSurvival.Screens.GameScreen;
+import io.github.ZombieSurvival.Screens.LoadingScreen;
 import io.github.ZombieSurvival.Screens.MainMenuScreen;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.List;
 
 /**
  * Base game class.
@@ -36,7 +45,22 @@ public class RotNRun extends Game {
      * Path to save file.
      */
     public static final Path SAVE_FILE_PATH = Path.of(
+        "core/src/main/java/io/github/ZombieSurvival/Save.bin");
+    /**
+     * Path to the log of every finished run.
+     */
+    public static final Path RUN_LOG_PATH = Path.of(
+        "core/src/main/java/io/github/ZombieSurvival/Runs.bin");
+    /**
+     * Path to the text save file of older versions, imported into a new save file.
+     */
+    public static final Path LEGACY_SAVE_FILE_PATH = Path.of(
         "core/src/main/java/io/github/ZombieSurvival/Save.txt");
+    /**
+     * Path to the input log of the last run, for replaying it.
+     */
+    public static final Path LAST_RUN_INPUT_LOG_PATH = Path.of(
+        "core/src/main/java/io/github/ZombieSurvival/LastRun.bin");
     /**
      * Viewport of the game.
      */
@@ -48,34 +72,93 @@ public class RotNRun extends Game {
      * Hold the mouses current coordinates.
      */
     private static final Vector2 MOUSE_POSITION = new Vector2();
+    /**
+     * Seconds taken to fade between the music of two screens.
+     */
+    private static final float MUSIC_CROSSFADE_SECONDS = 1.5f;
+    /**
+     * Frames kept by the profiler, ten seconds at 60 frames per second.
+     */
+    private static final int PROFILED_FRAMES = 600;
 
+    // Rolls the seed of every run, seeded by the launcher to replay the same runs
+    private final RandomXS128 runSeeds;
+    // Run replayed instead of showing the main menu, or null
+    private final InputLog replayLog;
     private SpriteBatch spriteBatch;
+    // High scores, unlocks and run history
+    private SaveStore saveStore;
+    // The player's progress, read once and shared by every screen
+    private ProfileState profile;
+    // Loads and shares every asset between screens
+    private AssetService assets;
+    // Plays and crossfades the music of every screen
+    private MusicService music;
+    // Every sprite, button and the font, packed into one texture by the packTextures task
+    private TextureAtlas atlas;
+    // Draw calls the sprite batch issued during the last frame
+    private int renderCalls;
+    // Phase times of the game screen's frames, and where they are saved, or null
+    private FrameProfiler profiler;
+    private MetricsWriter metricsWriter;
+    // Writes the input log of the last run in the background
+    private InputLogWriter inputLogWriter;
     private BitmapFont normalText;
     private BitmapFont bigText;
     private BitmapFont yellowText;
 
+    /**
+     * Constructs a RotNRun whose runs spawn differently every launch.
+     */
+    public RotNRun() {
+        runSeeds = new RandomXS128();
+        replayLog = null;
+    }
+
+    /**
+     * Constructs a RotNRun whose runs spawn from seeds rolled from the specified seed,
+     * so every launch with the same seed plays the same sequence of runs.
+     *
+     * @param seed a long
+     */
+    public RotNRun(final long seed) {
+        runSeeds = new RandomXS128(seed);
+        replayLog = null;
+    }
+
+    /**
+     * Constructs a RotNRun that starts by replaying the recorded run instead of
+     * showing the main menu.
+     *
+     * @param replayLog an InputLog
+     * @throws IllegalArgumentException if replayLog is null
+     */
+    public RotNRun(final InputLog replayLog) {
+        if (replayLog == null) {
+            throw new IllegalArgumentException("There is no input log to replay.");
+        }
+        runSeeds = new RandomXS128();
+        this.replayLog = replayLog;
+    }
+
     /*
-     * Creates a new save file if one does not already exist.
+     * Opens the save file, creating it if it does not already exist.
      */
-    private void createSaveFile() {
-        if (!Files.exists(SAVE_FILE_PATH)) {
-            try {
-                Files.createFile(SAVE_FILE_PATH);
-                System.out.println("New save file created.");
-                List<String> scores = List.of(
-                    "0", // Easy High Score
-                    "false", // Easy High Score Updated
-                    "0", // Normal High Score
-                    "false", // Normal High Score Updated
-                    "0", // Hard High Score
-                    "false", // Hard High Score Updated
-                    "false", // Normal Difficulty Unlocked
-                    "false" // Hard Difficulty Unlocked
-                );
-                Files.write(SAVE_FILE_PATH, scores);
-            } catch (IOException error) {
-                System.out.println("New save file failed to be created.");
-            }
+    private void openSaveStore() {
+        try {
+            saveStore = SaveStore.open(SAVE_FILE_PATH, RUN_LOG_PATH, LEGACY_SAVE_FILE_PATH);
+        } catch (IOException error) {
+            System.out.println("Save file failed to open, progress will not be saved.");
+            saveStore = SaveStore.inMemory();
+        }
+        profile = ProfileState.load(saveStore);
+    }
+    /*
+     * Hands the profile's changes to the save store, which writes them in the background.
+     */
+    private void persistProfile() {
+        if (profile.isDirty()) {
+            profile.persist(saveStore);
         }
     }
     /*
@@ -94,36 +177,93 @@ public class RotNRun extends Game {
     @Override
     public void create() {
         // Create save file if it does not already exist
-        createSaveFile();
+        openSaveStore();
         // Create new sprite batch
         spriteBatch = new SpriteBatch();
+        // Queue every asset, loaded in the background by the LoadingScreen
+        assets = new AssetService();
+        assets.preloadAll();
+        createProfiler();
+        inputLogWriter = new InputLogWriter(LAST_RUN_INPUT_LOG_PATH);
+        this.setScreen(new LoadingScreen(this));
+    }
+
+    /*
+     * Creates the frame profiler, saving its frames if a metrics file was given.
+     */
+    private void createProfiler() {
+        profiler = new FrameProfiler(PROFILED_FRAMES);
+        // Launch with -Drotnrun.metricsFile=metrics.csv to chart long sessions
+        final String metricsFile = System.getProperty("rotnrun.metricsFile");
+        if (metricsFile != null) {
+            metricsWriter = new MetricsWriter(Path.of(metricsFile), PROFILED_FRAMES);
+            profiler.setMetricsWriter(metricsWriter);
+        }
+    }
+
+    /**
+     * Creates the fonts from the loaded atlas.
+     * Called by the LoadingScreen once every asset is loaded.
+     */
+    public void finishLoading() {
+        atlas = assets.get(AssetService.SPRITE_ATLAS, TextureAtlas.class);
+        music = new MusicService(assets, MUSIC_CROSSFADE_SECONDS, 1f);
         // Create fonts
-        // Custom font texture
-        Texture fontTexture = new Texture("Custom_Font.png");
-        fontTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        // Custom font region, on its own linearly filtered atlas page
+        TextureAtlas.AtlasRegion fontRegion = getRegion("Custom_Font");
         // Normal Text
         final float normalTextScale = 1.5f;
         normalText = new BitmapFont(
             Gdx.files.internal("assets/Custom_Font.fnt"),
-            new TextureRegion(fontTexture));
+            fontRegion);
         setFontConfig(normalText, normalTextScale, Color.WHITE);
         // Big Text
         final float bigTextScale = 0.5f;
         bigText = new BitmapFont(
             Gdx.files.internal("assets/Custom_Font.fnt"),
-            new TextureRegion(fontTexture));
+            fontRegion);
         setFontConfig(bigText, bigTextScale, Color.WHITE);
         // Yellow Text
         final float yellowTextScale = 2.5f;
         yellowText = new BitmapFont(
             Gdx.files.internal("assets/Custom_Font.fnt"),
-            new TextureRegion(fontTexture));
+            fontRegion);
         setFontConfig(yellowText, yellowTextScale, Color.YELLOW);
-        // Start game on MainMenuScreen
-        this.setScreen(new MainMenuScreen(this));
     }
 
 
+    /**
+     * Returns the first screen after loading: the replay if one was given,
+     * otherwise the main menu.
+     *
+     * @return a new Screen
+     */
+    public Screen createStartScreen() {
+        if (replayLog != null) {
+            return new GameScreen(this, replayLog);
+        }
+        return new MainMenuScreen(this);
+    }
+
+    /**
+     * Hands the input log of a finished run to the writer, which writes it to
+     * LAST_RUN_INPUT_LOG_PATH in the background.
+     *
+     * @param log an InputLog, no longer recorded to
+     */
+    public void writeInputLog(final InputLog log) {
+        inputLogWriter.submit(log);
+    }
+
+    /**
+     * Returns the seed for the next run's spawns.
+     *
+     * @return a long
+     */
+    public long nextRunSeed() {
+        return runSeeds.nextLong();
+    }
+
     /**
      * Returns the spriteBatch for this game.
      *
@@ -132,6 +272,69 @@ public class RotNRun extends Game {
     public SpriteBatch getSpriteBatch() {
         return spriteBatch;
     }
+    /**
+     * Returns the player's progress. Changes are saved at the end of the frame.
+     *
+     * @return profile as ProfileState
+     */
+    public ProfileState getProfile() {
+        return profile;
+    }
+    /**
+     * Returns the store of high scores, unlocks and run history.
+     *
+     * @return saveStore as SaveStore
+     */
+    public SaveStore getSaveStore() {
+        return saveStore;
+    }
+    /**
+     * Returns the service holding every asset shared between screens.
+     *
+     * @return assets as AssetService
+     */
+    public AssetService getAssets() {
+        return assets;
+    }
+    /**
+     * Returns the service playing the music of every screen.
+     *
+     * @return music as MusicService
+     */
+    public MusicService getMusic() {
+        return music;
+    }
+    /**
+     * Returns the packed region of the image with the specified name, without its extension.
+     *
+     * @param name a String
+     * @return the region as TextureAtlas.AtlasRegion
+     * @throws IllegalArgumentException if no image with that name was packed
+     */
+    public TextureAtlas.AtlasRegion getRegion(final String name) {
+        final TextureAtlas.AtlasRegion region = atlas.findRegion(name);
+        if (region == null) {
+            throw new IllegalArgumentException("No packed image named " + name + ".");
+        }
+        return region;
+    }
+    /**
+     * Returns the amount of draw calls the sprite batch issued during the last frame.
+     * Every texture switch inside a batch costs one more.
+     *
+     * @return renderCalls as int
+     */
+    public int getRenderCalls() {
+        return renderCalls;
+    }
+    /**
+     * Returns the profiler timing the phases of each game screen frame.
+     *
+     * @return profiler as FrameProfiler
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
     /**
      * Returns the normal text font used for this game.
      *
@@ -224,7 +427,28 @@ public class RotNRun extends Game {
      * Render's the game.
      */
     public void render() {
+        if (music != null) {
+            music.update(Gdx.graphics.getDeltaTime());
+        }
+        final int previousTotal = spriteBatch.totalRenderCalls;
         super.render();
+        final int frameRenderCalls = spriteBatch.totalRenderCalls - previousTotal;
+        if (frameRenderCalls != renderCalls) {
+            Gdx.app.debug("RotNRun", "Render calls per frame: " + frameRenderCalls);
+        }
+        renderCalls = frameRenderCalls;
+        profiler.endFrame(frameRenderCalls);
+        persistProfile();
+    }
+
+    /**
+     * Writes pending save data before the game may be closed without warning.
+     */
+    @Override
+    public void pause() {
+        super.pause();
+        persistProfile();
+        saveStore.flush();
     }
 
     /**
@@ -232,9 +456,35 @@ public class RotNRun extends Game {
      */
     public void dispose() {
         spriteBatch.dispose();
-        normalText.dispose();
-        bigText.dispose();
-        yellowText.dispose();
+        // Fonts and music are only created once loading finished
+        if (normalText != null) {
+            normalText.dispose();
+            bigText.dispose();
+            yellowText.dispose();
+            music.dispose();
+        }
+        assets.dispose();
+        // Blocks until every pending save is written
+        persistProfile();
+        try {
+            saveStore.close();
+        } catch (IOException error) {
+            System.out.println("Failed to close save file.");
+        }
+        // Blocks until the last run's input log is written
+        try {
+            inputLogWriter.close();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        if (metricsWriter != null) {
+            profiler.submitRemaining();
+            try {
+                metricsWriter.close();
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
 }
@@ -0,0 +1,211 @@
+package io.github.ZombieSurvival.Save;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.ZombieSurvival.Sprites.Difficulty;
+
+/**
+ * The player's progress, loaded once from the SaveStore and shared by every screen.
+ * Screens read and update it freely; only the fields changed since the last persist
+ * are handed back to the SaveStore.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class ProfileState {
+    // Dirty bits, one of each per difficulty
+    private static final int DIFFICULTY_COUNT = Difficulty.values().length;
+    private static final int NEW_HIGH_SCORE_BIT = 0;
+    private static final int UNLOCKED_BIT = DIFFICULTY_COUNT;
+
+    // Values by difficulty ordinal
+    private final int[] highScores;
+    private final boolean[] newHighScores;
+    private final boolean[] unlocked;
+    private int runCount;
+    // Changes not yet persisted
+    private final Array<RunRecord> pendingRuns;
+    private int dirtyFields;
+
+    /*
+     * Constructs a ProfileState with nothing unlocked and no runs.
+     */
+    private ProfileState() {
+        highScores = new int[DIFFICULTY_COUNT];
+        newHighScores = new boolean[DIFFICULTY_COUNT];
+        unlocked = new boolean[DIFFICULTY_COUNT];
+        runCount = 0;
+        pendingRuns = new Array<>();
+        dirtyFields = 0;
+    }
+
+    /**
+     * Reads the player's progress from the SaveStore.
+     *
+     * @param store a SaveStore
+     * @return the loaded ProfileState
+     * @throws IllegalArgumentException if store is null
+     */
+    public static ProfileState load(final SaveStore store) {
+        if (store == null) {
+            throw new IllegalArgumentException("There is no save to load the profile from.");
+        }
+        final ProfileState profile = new ProfileState();
+        for (Difficulty difficulty : Difficulty.values()) {
+            final int index = difficulty.ordinal();
+            profile.highScores[index] = store.getHighScore(difficulty);
+            profile.newHighScores[index] = store.isNewHighScore(difficulty);
+            profile.unlocked[index] = store.isUnlocked(difficulty);
+        }
+        profile.runCount = store.getRunCount();
+        return profile;
+    }
+
+    /**
+     * Returns the highest score reached on the difficulty, or 0 if none.
+     *
+     * @param difficulty a Difficulty
+     * @return the high score as int
+     */
+    public int getHighScore(final Difficulty difficulty) {
+        return highScores[difficulty.ordinal()];
+    }
+    /**
+     * Returns true if the difficulty's high score was beaten since it was last shown.
+     *
+     * @param difficulty a Difficulty
+     * @return true if there is a new high score, otherwise false
+     */
+    public boolean isNewHighScore(final Difficulty difficulty) {
+        return newHighScores[difficulty.ordinal()];
+    }
+    /**
+     * Marks every high score as shown.
+     */
+    public void clearNewHighScores() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            setNewHighScore(difficulty, false);
+        }
+    }
+    /**
+     * Returns true if the difficulty can be played.
+     *
+     * @param difficulty a Difficulty
+     * @return true if unlocked, otherwise false
+     */
+    public boolean isUnlocked(final Difficulty difficulty) {
+        return unlocked[difficulty.ordinal()];
+    }
+    /**
+     * Unlocks the difficulty.
+     *
+     * @param difficulty a Difficulty
+     */
+    public void unlock(final Difficulty difficulty) {
+        final int index = difficulty.ordinal();
+        if (!unlocked[index]) {
+            unlocked[index] = true;
+            dirtyFields |= 1 << (UNLOCKED_BIT + index);
+        }
+    }
+    /**
+     * Returns the amount of runs played, finished or not.
+     *
+     * @return runCount as int
+     */
+    public int getRunCount() {
+        return runCount;
+    }
+
+    /**
+     * Counts a finished run. A completed run that beats the difficulty's high score
+     * becomes the new high score.
+     *
+     * @param run a RunRecord
+     * @throws IllegalArgumentException if run is null
+     */
+    public void recordRun(final RunRecord run) {
+        if (run == null) {
+            throw new IllegalArgumentException("There is no run to record.");
+        }
+        pendingRuns.add(run);
+        runCount++;
+        final Difficulty difficulty = run.getDifficulty();
+        if (run.isCompleted() && run.getScore() > getHighScore(difficulty)) {
+            highScores[difficulty.ordinal()] = run.getScore();
+            setNewHighScore(difficulty, true);
+        }
+    }
+
+    /**
+     * Returns true if anything changed since the last persist.
+     *
+     * @return true if dirty, otherwise false
+     */
+    public boolean isDirty() {
+        return dirtyFields != 0 || pendingRuns.notEmpty();
+    }
+
+    /**
+     * Hands every change since the last persist to the SaveStore.
+     * Unchanged fields are not touched.
+     *
+     * @param store a SaveStore
+     */
+    public void persist(final SaveStore store) {
+        // Runs go first, as they decide the leaderboard the flags refer to
+        for (RunRecord run : pendingRuns) {
+            store.recordRun(run);
+        }
+        pendingRuns.clear();
+        for (Difficulty difficulty : Difficulty.values()) {
+            final int index = difficulty.ordinal();
+            if (isDirty(NEW_HIGH_SCORE_BIT + index)) {
+                store.setNewHighScore(difficulty, newHighScores[index]);
+            }
+            if (isDirty(UNLOCKED_BIT + index)) {
+                store.unlock(difficulty);
+            }
+        }
+        dirtyFields = 0;
+    }
+
+    /*
+     * Updates the new high score flag, marking it dirty if it changed.
+     */
+    private void setNewHighScore(final Difficulty difficulty, final boolean newHighScore) {
+        final int index = difficulty.ordinal();
+        if (newHighScores[index] != newHighScore) {
+            newHighScores[index] = newHighScore;
+            // Flipping back to the persisted value leaves nothing to write
+            dirtyFields ^= 1 << (NEW_HIGH_SCORE_BIT + index);
+        }
+    }
+
+    /*
+     * Returns true if the field at the dirty bit changed since the last persist.
+     */
+    private boolean isDirty(final int bit) {
+        return (dirtyFields & (1 << bit)) != 0;
+    }
+
+    /**
+     * Returns a String representation of this ProfileState.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("ProfileState{");
+        for (Difficulty difficulty : Difficulty.values()) {
+            final int index = difficulty.ordinal();
+            builder.append(difficulty).append("=").append(highScores[index]);
+            builder.append(newHighScores[index] ? " new" : "");
+            builder.append(unlocked[index] ? "" : " locked").append(", ");
+        }
+        builder.append("runs=").append(runCount).append(", ");
+        builder.append("dirty=").append(isDirty());
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.ZombieSurvival.Save;
+
+import io.github.ZombieSurvival.Sprites.Difficulty;
+
+/**
+ * One finished run, as stored in the run log.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class RunRecord {
+    private final long timestamp;
+    private final Difficulty difficulty;
+    private final int score;
+    private final boolean completed;
+
+    /**
+     * Constructs a RunRecord with the specified values.
+     *
+     * @param timestamp a long, milliseconds since the epoch when the run finished
+     * @param difficulty a Difficulty
+     * @param score an int
+     * @param completed true if the run ended by running out of stamina,
+     *                  false if the player ran out of HP
+     * @throws IllegalArgumentException if difficulty is null or score is negative
+     */
+    public RunRecord(final long timestamp, final Difficulty difficulty,
+                     final int score, final boolean completed) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null.");
+        }
+        if (score < 0) {
+            throw new IllegalArgumentException("Score cannot be negative.");
+        }
+        this.timestamp = timestamp;
+        this.difficulty = difficulty;
+        this.score = score;
+        this.completed = completed;
+    }
+
+    /**
+     * Returns when the run finished, in milliseconds since the epoch.
+     *
+     * @return timestamp as long
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+    /**
+     * Returns the difficulty of the run.
+     *
+     * @return difficulty as Difficulty
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+    /**
+     * Returns the score of the run.
+     *
+     * @return score as int
+     */
+    public int getScore() {
+        return score;
+    }
+    /**
+     * Returns true if the run ended with a score, false if it ended in a game over.
+     *
+     * @return completed as boolean
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * Returns a String representation of this RunRecord.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("RunRecord{");
+        builder.append("timestamp=").append(timestamp).append(", ");
+        builder.append("difficulty=").append(difficulty).append(", ");
+        builder.append("score=").append(score).append(", ");
+        builder.append("completed=").append(completed);
+        builder.append("}");
+        return builder.toString();
+    }
+}
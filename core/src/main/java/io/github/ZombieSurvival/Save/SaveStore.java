@@ -0,0 +1,519 @@
+package io.github.ZombieSurvival.Save;
+
+import com.badlogic.gdx.utils.Array;
+import io.github.ZombieSurvival.Sprites.Difficulty;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Scanner;
+
+/**
+ * Stores high scores, unlocks and leaderboards in a small binary file mapped into memory,
+ * and every finished run in an append-only run log next to it.
+ * <p>
+ * The save file starts with a magic number and a format version, followed by one fixed-size
+ * block per difficulty. A new save file is written to a temporary file first and renamed
+ * into place, so a crash never leaves a half-written save behind.
+ * <p>
+ * The copy in memory is authoritative: reads and updates never touch the disk.
+ * Updates are written by a background SaveWriter, which coalesces updates made close
+ * together into one write of the mapped file and one append to the run log.
+ * Every method is safe to call from any thread.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class SaveStore implements Closeable {
+    /**
+     * Amount of scores kept on each difficulty's leaderboard.
+     */
+    public static final int LEADERBOARD_SIZE = 10;
+    /**
+     * Current version of the save file format.
+     */
+    public static final short VERSION = 1;
+    // "RNRS" and "RNRL"
+    private static final int SAVE_MAGIC = 0x524E5253;
+    private static final int RUN_LOG_MAGIC = 0x524E524C;
+    // Header: magic int, version short, reserved short
+    private static final int VERSION_OFFSET = 4;
+    private static final int HEADER_SIZE = 8;
+    // Difficulty block: new high score byte, unlocked byte, leaderboard count short,
+    // then the leaderboard from highest to lowest score
+    private static final int NEW_HIGH_SCORE_OFFSET = 0;
+    private static final int UNLOCKED_OFFSET = 1;
+    private static final int LEADERBOARD_COUNT_OFFSET = 2;
+    private static final int LEADERBOARD_OFFSET = 4;
+    private static final int BLOCK_SIZE = LEADERBOARD_OFFSET + LEADERBOARD_SIZE * Integer.BYTES;
+    private static final int SAVE_SIZE = HEADER_SIZE + BLOCK_SIZE * Difficulty.values().length;
+    // Run record: timestamp long, score int, difficulty byte, completed byte, reserved short
+    private static final int RUN_RECORD_SIZE = 16;
+    // How long the writer waits for more updates before writing
+    private static final long COALESCE_MILLIS = 100;
+
+    // Authoritative save data, guarded by this
+    private final ByteBuffer data;
+    // Runs not yet on disk, oldest first, guarded by this
+    private final Array<RunRecord> pendingRuns;
+    // Runs already on disk, guarded by this
+    private int diskRunCount;
+    // Only used by the writer thread
+    private final MappedByteBuffer mappedData;
+    private final ByteBuffer dataSnapshot;
+    private final Array<RunRecord> writingRuns;
+    private final ByteBuffer writeRecord;
+    // Shared by both threads, positional reads and writes are safe together
+    private final FileChannel runLog;
+    private final ByteBuffer readRecord;
+    private final SaveWriter writer;
+
+    /*
+     * Constructs a SaveStore over the mapped save file and run log, or nothing if null.
+     */
+    private SaveStore(final MappedByteBuffer mappedData, final FileChannel runLog,
+                      final int diskRunCount) {
+        this.data = newSaveData();
+        this.pendingRuns = new Array<>();
+        this.diskRunCount = diskRunCount;
+        this.mappedData = mappedData;
+        this.dataSnapshot = ByteBuffer.allocate(SAVE_SIZE);
+        this.writingRuns = new Array<>();
+        this.writeRecord = ByteBuffer.allocate(RUN_RECORD_SIZE);
+        this.runLog = runLog;
+        this.readRecord = ByteBuffer.allocate(RUN_RECORD_SIZE);
+        if (mappedData != null) {
+            data.put(mappedData.duplicate());
+            // Only absolute gets and puts are used afterwards
+            data.clear();
+            writer = new SaveWriter(this, COALESCE_MILLIS);
+        } else {
+            writer = null;
+        }
+    }
+
+    /**
+     * Opens the save file and run log at the specified paths, creating them if needed.
+     * A missing save file is seeded from the text save file of older versions, if one exists.
+     *
+     * @param savePath a Path
+     * @param runLogPath a Path
+     * @param legacyPath a Path to the old text save file
+     * @return the opened SaveStore
+     * @throws IOException if a file cannot be read or written, or is not a valid save
+     */
+    public static SaveStore open(final Path savePath, final Path runLogPath,
+                                 final Path legacyPath) throws IOException {
+        if (!Files.exists(savePath)) {
+            createSaveFile(savePath, legacyPath);
+        }
+        final MappedByteBuffer data;
+        try (FileChannel channel = FileChannel.open(savePath,
+            StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < SAVE_SIZE) {
+                throw new IOException("Save file " + savePath + " is truncated.");
+            }
+            // The mapping stays valid after the channel is closed
+            data = channel.map(FileChannel.MapMode.READ_WRITE, 0, SAVE_SIZE);
+        }
+        checkHeader(data, SAVE_MAGIC, savePath);
+        final FileChannel runLog = openRunLog(runLogPath);
+        final int runCount = (int) ((runLog.size() - HEADER_SIZE) / RUN_RECORD_SIZE);
+        return new SaveStore(data, runLog, runCount);
+    }
+
+    /**
+     * Returns a SaveStore that keeps nothing on disk, for when the save file cannot be opened.
+     * Runs are not logged.
+     *
+     * @return a new SaveStore
+     */
+    public static SaveStore inMemory() {
+        return new SaveStore(null, null, 0);
+    }
+
+    /**
+     * Returns the highest score reached on the difficulty, or 0 if none.
+     *
+     * @param difficulty a Difficulty
+     * @return the high score as int
+     */
+    public synchronized int getHighScore(final Difficulty difficulty) {
+        return getLeaderboardCount(difficulty) == 0 ? 0 : getLeaderboardScore(difficulty, 0);
+    }
+    /**
+     * Returns true if the difficulty's high score was beaten since it was last shown.
+     *
+     * @param difficulty a Difficulty
+     * @return true if there is a new high score, otherwise false
+     */
+    public synchronized boolean isNewHighScore(final Difficulty difficulty) {
+        return data.get(blockOffset(difficulty) + NEW_HIGH_SCORE_OFFSET) != 0;
+    }
+    /**
+     * Marks the difficulty's high score as new, or as shown.
+     *
+     * @param difficulty a Difficulty
+     * @param newHighScore true if the high score was beaten since it was last shown
+     */
+    public synchronized void setNewHighScore(final Difficulty difficulty,
+                                             final boolean newHighScore) {
+        if (isNewHighScore(difficulty) != newHighScore) {
+            data.put(blockOffset(difficulty) + NEW_HIGH_SCORE_OFFSET,
+                (byte) (newHighScore ? 1 : 0));
+            requestWrite();
+        }
+    }
+    /**
+     * Returns true if the difficulty can be played.
+     *
+     * @param difficulty a Difficulty
+     * @return true if unlocked, otherwise false
+     */
+    public synchronized boolean isUnlocked(final Difficulty difficulty) {
+        return data.get(blockOffset(difficulty) + UNLOCKED_OFFSET) != 0;
+    }
+    /**
+     * Unlocks the difficulty.
+     *
+     * @param difficulty a Difficulty
+     */
+    public synchronized void unlock(final Difficulty difficulty) {
+        if (!isUnlocked(difficulty)) {
+            data.put(blockOffset(difficulty) + UNLOCKED_OFFSET, (byte) 1);
+            requestWrite();
+        }
+    }
+    /**
+     * Returns the amount of scores on the difficulty's leaderboard.
+     *
+     * @param difficulty a Difficulty
+     * @return the count as int
+     */
+    public synchronized int getLeaderboardCount(final Difficulty difficulty) {
+        return data.getShort(blockOffset(difficulty) + LEADERBOARD_COUNT_OFFSET);
+    }
+    /**
+     * Returns the score at rank on the difficulty's leaderboard, 0 being the highest.
+     *
+     * @param difficulty a Difficulty
+     * @param rank an int
+     * @return the score as int
+     * @throws IndexOutOfBoundsException if rank is not on the leaderboard
+     */
+    public synchronized int getLeaderboardScore(final Difficulty difficulty, final int rank) {
+        if (rank < 0 || rank >= getLeaderboardCount(difficulty)) {
+            throw new IndexOutOfBoundsException("Rank " + rank + " is not on the leaderboard.");
+        }
+        return data.getInt(leaderboardOffset(difficulty, rank));
+    }
+
+    /**
+     * Logs a finished run. A completed run also enters the difficulty's leaderboard.
+     *
+     * @param run a RunRecord
+     * @throws IllegalArgumentException if run is null
+     */
+    public synchronized void recordRun(final RunRecord run) {
+        if (run == null) {
+            throw new IllegalArgumentException("There is no run to record.");
+        }
+        if (runLog != null) {
+            pendingRuns.add(run);
+        }
+        if (run.isCompleted()) {
+            insertIntoLeaderboard(run.getDifficulty(), run.getScore());
+        }
+        requestWrite();
+    }
+    /**
+     * Returns the amount of runs in the run log.
+     *
+     * @return runCount as int
+     */
+    public synchronized int getRunCount() {
+        return diskRunCount + pendingRuns.size;
+    }
+    /**
+     * Reads the run at index from the run log, 0 being the oldest.
+     * Runs not yet written are returned from memory.
+     *
+     * @param index an int
+     * @return the run as RunRecord
+     * @throws IndexOutOfBoundsException if index is not a logged run
+     * @throws IOException if the run log cannot be read
+     */
+    public synchronized RunRecord readRun(final int index) throws IOException {
+        if (index < 0 || index >= getRunCount()) {
+            throw new IndexOutOfBoundsException("Run " + index + " is not in the run log.");
+        }
+        if (index >= diskRunCount) {
+            return pendingRuns.get(index - diskRunCount);
+        }
+        readRecord.clear();
+        final long position = HEADER_SIZE + (long) index * RUN_RECORD_SIZE;
+        while (readRecord.hasRemaining()) {
+            if (runLog.read(readRecord, position + readRecord.position()) < 0) {
+                throw new IOException("Run log ended early.");
+            }
+        }
+        final long timestamp = readRecord.getLong(0);
+        final int score = readRecord.getInt(8);
+        final Difficulty difficulty = Difficulty.values()[readRecord.get(12)];
+        final boolean completed = readRecord.get(13) != 0;
+        return new RunRecord(timestamp, difficulty, score, completed);
+    }
+
+    /**
+     * Writes every update made so far and waits until it is on disk.
+     */
+    public void flush() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.flush();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Copies the save data and pending runs to disk. Only called by the writer thread.
+     */
+    void writeToDisk() throws IOException {
+        final int firstIndex;
+        synchronized (this) {
+            dataSnapshot.clear();
+            dataSnapshot.put(data.duplicate());
+            firstIndex = diskRunCount;
+            writingRuns.clear();
+            writingRuns.addAll(pendingRuns);
+        }
+        dataSnapshot.flip();
+        mappedData.clear();
+        mappedData.put(dataSnapshot);
+        mappedData.force();
+        if (writingRuns.notEmpty()) {
+            for (int index = 0; index < writingRuns.size; index++) {
+                writeRun(writingRuns.get(index), firstIndex + index);
+            }
+            runLog.force(false);
+            synchronized (this) {
+                pendingRuns.removeRange(0, writingRuns.size - 1);
+                diskRunCount += writingRuns.size;
+            }
+        }
+    }
+
+    /*
+     * Creates the save file through a temporary file, importing the old text save if present.
+     */
+    private static void createSaveFile(final Path savePath, final Path legacyPath)
+        throws IOException {
+        final ByteBuffer data = newSaveData();
+        if (legacyPath != null && Files.exists(legacyPath)) {
+            importLegacySave(data, legacyPath);
+        }
+        final Path temporaryPath = savePath.resolveSibling(savePath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            data.rewind();
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryPath, savePath,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException error) {
+            Files.move(temporaryPath, savePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /*
+     * Returns empty save data with only the easiest difficulty unlocked.
+     */
+    private static ByteBuffer newSaveData() {
+        final ByteBuffer data = ByteBuffer.allocate(SAVE_SIZE);
+        data.putInt(0, SAVE_MAGIC);
+        data.putShort(VERSION_OFFSET, VERSION);
+        data.put(blockOffset(Difficulty.EASY) + UNLOCKED_OFFSET, (byte) 1);
+        return data;
+    }
+
+    /*
+     * Copies the high scores and unlocks of the old text save file into the save data.
+     */
+    private static void importLegacySave(final ByteBuffer data, final Path legacyPath)
+        throws IOException {
+        try (Scanner scanner = new Scanner(legacyPath)) {
+            for (Difficulty difficulty : Difficulty.values()) {
+                final int highScore = scanner.nextInt();
+                final boolean newHighScore = scanner.nextBoolean();
+                final int block = blockOffset(difficulty);
+                data.put(block + NEW_HIGH_SCORE_OFFSET, (byte) (newHighScore ? 1 : 0));
+                if (highScore > 0) {
+                    data.putShort(block + LEADERBOARD_COUNT_OFFSET, (short) 1);
+                    data.putInt(block + LEADERBOARD_OFFSET, highScore);
+                }
+            }
+            if (scanner.nextBoolean()) {
+                data.put(blockOffset(Difficulty.NORMAL) + UNLOCKED_OFFSET, (byte) 1);
+            }
+            if (scanner.nextBoolean()) {
+                data.put(blockOffset(Difficulty.HARD) + UNLOCKED_OFFSET, (byte) 1);
+            }
+        } catch (RuntimeException error) {
+            throw new IOException("Old save file " + legacyPath + " could not be read.", error);
+        }
+    }
+
+    /*
+     * Opens the run log for appending, creating it if needed and dropping a torn last record.
+     */
+    private static FileChannel openRunLog(final Path runLogPath) throws IOException {
+        final FileChannel channel = FileChannel.open(runLogPath, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.size() < HEADER_SIZE) {
+                header.putInt(0, RUN_LOG_MAGIC);
+                header.putShort(VERSION_OFFSET, VERSION);
+                channel.truncate(0);
+                channel.write(header, 0);
+                channel.force(true);
+            } else {
+                channel.read(header, 0);
+                checkHeader(header, RUN_LOG_MAGIC, runLogPath);
+            }
+            final long torn = (channel.size() - HEADER_SIZE) % RUN_RECORD_SIZE;
+            if (torn != 0) {
+                channel.truncate(channel.size() - torn);
+            }
+            return channel;
+        } catch (IOException error) {
+            channel.close();
+            throw error;
+        }
+    }
+
+    /*
+     * Throws if the buffer does not start with the magic number and current version.
+     */
+    private static void checkHeader(final ByteBuffer header, final int magic, final Path path)
+        throws IOException {
+        if (header.getInt(0) != magic) {
+            throw new IOException(path + " is not a save file.");
+        }
+        final short version = header.getShort(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IOException(path + " has unsupported version " + version + ".");
+        }
+    }
+
+    /*
+     * Returns the offset of the difficulty's block.
+     */
+    private static int blockOffset(final Difficulty difficulty) {
+        return HEADER_SIZE + difficulty.ordinal() * BLOCK_SIZE;
+    }
+
+    /*
+     * Returns the offset of the score at rank on the difficulty's leaderboard.
+     */
+    private static int leaderboardOffset(final Difficulty difficulty, final int rank) {
+        return blockOffset(difficulty) + LEADERBOARD_OFFSET + rank * Integer.BYTES;
+    }
+
+    /*
+     * Inserts the score after every equal or higher score, dropping the lowest when full.
+     */
+    private void insertIntoLeaderboard(final Difficulty difficulty, final int score) {
+        final int count = getLeaderboardCount(difficulty);
+        int rank = count;
+        while (rank > 0 && data.getInt(leaderboardOffset(difficulty, rank - 1)) < score) {
+            rank--;
+        }
+        if (rank >= LEADERBOARD_SIZE) {
+            return;
+        }
+        final int newCount = Math.min(LEADERBOARD_SIZE, count + 1);
+        for (int index = newCount - 1; index > rank; index--) {
+            data.putInt(leaderboardOffset(difficulty, index),
+                data.getInt(leaderboardOffset(difficulty, index - 1)));
+        }
+        data.putInt(leaderboardOffset(difficulty, rank), score);
+        data.putShort(blockOffset(difficulty) + LEADERBOARD_COUNT_OFFSET, (short) newCount);
+    }
+
+    /*
+     * Writes the run into its slot of the run log. Only called by the writer thread.
+     */
+    private void writeRun(final RunRecord run, final int index) throws IOException {
+        writeRecord.clear();
+        writeRecord.putLong(run.getTimestamp());
+        writeRecord.putInt(run.getScore());
+        writeRecord.put((byte) run.getDifficulty().ordinal());
+        writeRecord.put((byte) (run.isCompleted() ? 1 : 0));
+        writeRecord.putShort((short) 0);
+        writeRecord.flip();
+        final long position = HEADER_SIZE + (long) index * RUN_RECORD_SIZE;
+        while (writeRecord.hasRemaining()) {
+            runLog.write(writeRecord, position + writeRecord.position());
+        }
+    }
+
+    /*
+     * Wakes the writer thread, if the store is kept on disk.
+     */
+    private void requestWrite() {
+        if (writer != null) {
+            writer.requestWrite();
+        }
+    }
+
+    /**
+     * Writes every pending update, stops the writer thread and closes the run log.
+     * Called when the game exits.
+     *
+     * @throws IOException if the run log cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (InterruptedException error) {
+            Thread.currentThread().interrupt();
+        }
+        runLog.close();
+    }
+
+    /**
+     * Returns a String representation of this SaveStore.
+     *
+     * @return a String
+     */
+    @Override
+    public synchronized String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SaveStore{");
+        builder.append("version=").append(data.getShort(VERSION_OFFSET)).append(", ");
+        builder.append("runs=").append(getRunCount()).append(", ");
+        builder.append("pendingRuns=").append(pendingRuns.size).append(", ");
+        builder.append("onDisk=").append(writer != null);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package io.github.ZombieSurvival.Save;
+
+import java.io.IOException;
+
+/**
+ * Writes a SaveStore to disk on its own thread, so saving never blocks the render thread.
+ * Requests made within a short window of each other are coalesced into one write.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+class SaveWriter implements Runnable {
+    private final SaveStore store;
+    private final long coalesceMillis;
+    private final Object lock;
+    private final Thread thread;
+    // Guarded by lock
+    private boolean requested;
+    private boolean urgent;
+    private boolean writing;
+    private boolean closed;
+
+    /*
+     * Constructs a SaveWriter for the store and starts its thread.
+     */
+    SaveWriter(final SaveStore store, final long coalesceMillis) {
+        this.store = store;
+        this.coalesceMillis = coalesceMillis;
+        this.lock = new Object();
+        this.requested = false;
+        this.urgent = false;
+        this.writing = false;
+        this.closed = false;
+        thread = new Thread(this, "save-writer");
+        // Unwritten changes are flushed by close, so the thread never keeps the game open
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /*
+     * Asks for the store to be written soon. Returns straight away.
+     */
+    void requestWrite() {
+        synchronized (lock) {
+            requested = true;
+            lock.notifyAll();
+        }
+    }
+
+    /*
+     * Writes any pending changes and waits until they are on disk.
+     */
+    void flush() throws InterruptedException {
+        synchronized (lock) {
+            requested = true;
+            urgent = true;
+            lock.notifyAll();
+            while ((requested || writing) && !closed) {
+                lock.wait();
+            }
+        }
+    }
+
+    /*
+     * Writes any pending changes, then stops the thread.
+     */
+    void close() throws InterruptedException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        thread.join();
+    }
+
+    /**
+     * Waits for write requests and writes the store, until closed.
+     */
+    @Override
+    public void run() {
+        while (awaitRequest()) {
+            try {
+                store.writeToDisk();
+            } catch (IOException error) {
+                System.out.println("Failed to write to save file.");
+            }
+            synchronized (lock) {
+                writing = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /*
+     * Blocks until a write is due, letting more requests arrive during the coalescing window.
+     * Returns false once closed with nothing left to write.
+     */
+    private boolean awaitRequest() {
+        synchronized (lock) {
+            try {
+                while (!requested && !closed) {
+                    lock.wait();
+                }
+                final long deadline = System.currentTimeMillis() + coalesceMillis;
+                long remaining = coalesceMillis;
+                while (!closed && !urgent && remaining > 0) {
+                    lock.wait(remaining);
+                    remaining = deadline - System.currentTimeMillis();
+                }
+            } catch (InterruptedException error) {
+                closed = true;
+            }
+            if (!requested) {
+                return false;
+            }
+            requested = false;
+            urgent = false;
+            writing = true;
+            return true;
+        }
+    }
+
+    /**
+     * Returns a String representation of this SaveWriter.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("SaveWriter{");
+        synchronized (lock) {
+            builder.append("requested=").append(requested).append(", ");
+            builder.append("writing=").append(writing).append(", ");
+            builder.append("closed=").append(closed);
+        }
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.ZombieSurvival.Screens;
+
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/**
+ * A line of text laid out once and drawn every frame.
+ * The layout is only rebuilt when the text or number it shows changes, and numbers are
+ * formatted into a reused StringBuilder, so drawing it every frame does not allocate.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class CachedText {
+    private final BitmapFont font;
+    private final GlyphLayout layout;
+    private final StringBuilder text;
+    // What the layout shows, to skip rebuilding it when nothing changed
+    private CharSequence numberPrefix;
+    private int number;
+    private int numberDigits;
+
+    /**
+     * Constructs an empty CachedText drawn in the specified font.
+     *
+     * @param font a BitmapFont
+     * @throws IllegalArgumentException if font is null
+     */
+    public CachedText(final BitmapFont font) {
+        if (font == null) {
+            throw new IllegalArgumentException("There is no font to draw the text in.");
+        }
+        this.font = font;
+        layout = new GlyphLayout();
+        text = new StringBuilder();
+        numberPrefix = null;
+        number = 0;
+        numberDigits = 0;
+    }
+
+    /**
+     * Constructs a CachedText showing the specified text.
+     *
+     * @param font a BitmapFont
+     * @param initialText a CharSequence
+     * @throws IllegalArgumentException if font is null
+     */
+    public CachedText(final BitmapFont font, final CharSequence initialText) {
+        this(font);
+        setText(initialText);
+    }
+
+    /**
+     * Shows the text, laying it out again only if it differs from the text shown.
+     *
+     * @param newText a CharSequence
+     */
+    public void setText(final CharSequence newText) {
+        if (numberPrefix == null && contentEquals(newText)) {
+            return;
+        }
+        numberPrefix = null;
+        text.setLength(0);
+        text.append(newText);
+        layout.setText(font, text);
+    }
+
+    /**
+     * Shows the prefix followed by the number, padded with zeros to at least the amount
+     * of digits. Lays it out again only if the prefix or number changed.
+     *
+     * @param prefix a CharSequence, kept by reference, so a constant is expected
+     * @param value an int, not negative
+     * @param minDigits an int
+     */
+    public void setNumber(final CharSequence prefix, final int value, final int minDigits) {
+        if (prefix == numberPrefix && value == number && minDigits == numberDigits) {
+            return;
+        }
+        numberPrefix = prefix;
+        number = value;
+        numberDigits = minDigits;
+        text.setLength(0);
+        text.append(prefix);
+        for (int digits = countDigits(value); digits < minDigits; digits++) {
+            text.append('0');
+        }
+        text.append(value);
+        layout.setText(font, text);
+    }
+
+    /**
+     * Returns the width of the laid out text.
+     *
+     * @return width as float
+     */
+    public float getWidth() {
+        return layout.width;
+    }
+    /**
+     * Returns the height of the laid out text.
+     *
+     * @return height as float
+     */
+    public float getHeight() {
+        return layout.height;
+    }
+
+    /**
+     * Draws the text with its top left corner at x and y.
+     *
+     * @param batch a SpriteBatch that has begun
+     * @param x a float
+     * @param y a float
+     */
+    public void draw(final SpriteBatch batch, final float x, final float y) {
+        font.draw(batch, layout, x, y);
+    }
+
+    /*
+     * Returns true if the shown text has the same characters as other.
+     */
+    private boolean contentEquals(final CharSequence other) {
+        if (other.length() != text.length()) {
+            return false;
+        }
+        for (int index = 0; index < text.length(); index++) {
+            if (other.charAt(index) != text.charAt(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Returns the amount of decimal digits in the value.
+     */
+    private static int countDigits(final int value) {
+        int digits = 1;
+        for (int rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Returns a String representation of this CachedText.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("CachedText{");
+        builder.append("text=").append(text).append(", ");
+        builder.append("width=").append(layout.width).append(", ");
+        builder.append("height=").append(layout.height);
+        builder.append("}");
+        return builder.toString();
+    }
+}
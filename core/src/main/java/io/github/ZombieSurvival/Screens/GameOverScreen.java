@@ -2,9 +2,9 @@ package io.github.ZombieSurvival.Screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.ZombieSurvival.Assets.AssetService;
 import io.github.ZombieSurvival.RotNRun;
 
 /**
@@ -29,12 +29,10 @@ public class GameOverScreen implements Screen {
     private final float buttonMaxX = buttonX + buttonWidth;
     private final float buttonY = boxY + 4 * onePixel;
     private final float buttonMaxY = buttonY + buttonHeight;
-    // Textures
-    private final Texture boxTexture = new Texture("RIP_Box.png");
-    private final Texture buttonInactiveTexture = new Texture("Menu_Button_Inactive.png");
-    private final Texture buttonActiveTexture = new Texture("Menu_Button_Active.png");
-    // Sounds
-    private final Music bgm = Gdx.audio.newMusic(Gdx.files.internal("Surrender to Shadows.wav"));
+    // Texture regions, all from the game's atlas
+    private final TextureRegion boxTexture;
+    private final TextureRegion buttonInactiveTexture;
+    private final TextureRegion buttonActiveTexture;
 
     /**
      * Constructs a GameOverScreen object with the specified instance of game.
@@ -47,6 +45,9 @@ public class GameOverScreen implements Screen {
             throw new IllegalArgumentException("There is no game to the apply screen to.");
         }
         this.game = game;
+        boxTexture = game.getRegion("RIP_Box");
+        buttonInactiveTexture = game.getRegion("Menu_Button_Inactive");
+        buttonActiveTexture = game.getRegion("Menu_Button_Active");
     }
 
     /**
@@ -54,7 +55,8 @@ public class GameOverScreen implements Screen {
      */
     @Override
     public void show() {
-        bgm.play();
+        // Crossfades from the previous screen's track
+        game.getMusic().play(AssetService.RESULT_MUSIC);
     }
 
     /**
@@ -127,14 +129,8 @@ public class GameOverScreen implements Screen {
 
     }
 
-    /**
-     * Removes resources.
-     */
     @Override
     public void dispose() {
-        boxTexture.dispose();
-        buttonInactiveTexture.dispose();
-        buttonActiveTexture.dispose();
-        bgm.dispose();
+
     }
 }
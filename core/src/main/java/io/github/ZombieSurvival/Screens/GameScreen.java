@@ -3,26 +3,28 @@ package io.github.ZombieSurvival.Screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.math.Circle;
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.utils.Array;
-import io.github.ZombieSurvival.Sprites.Entity;
-import io.github.ZombieSurvival.Sprites.EntityComparator;
-import io.github.ZombieSurvival.Sprites.Player;
-import io.github.ZombieSurvival.Sprites.Enemy;
-import io.github.ZombieSurvival.Sprites.Item;
-import io.github.ZombieSurvival.Sprites.Generate;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.ZombieSurvival.Assets.AssetService;
+import io.github.ZombieSurvival.Logic.GameSimulation;
+import io.github.ZombieSurvival.Logic.InputCommand;
+import io.github.ZombieSurvival.Logic.InputLog;
+import io.github.ZombieSurvival.Logic.InputReplay;
+import io.github.ZombieSurvival.Logic.SimulationSnapshot;
+import io.github.ZombieSurvival.Logic.SimulationThread;
+import io.github.ZombieSurvival.Profiling.FrameProfiler;
+import io.github.ZombieSurvival.Profiling.ProfilerOverlay;
+import io.github.ZombieSurvival.Save.RunRecord;
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
 import io.github.ZombieSurvival.Sprites.Difficulty;
 import io.github.ZombieSurvival.RotNRun;
 
 /**
  * The game screen of the game.
+ * Everything is drawn from a SimulationSnapshot, either captured after the frame's ticks
+ * or, with -Drotnrun.simulationThread=true, published by the simulation's own thread.
  *
  * @author Kanon Nishiyama
  * @version 2025
@@ -31,312 +33,225 @@ public class GameScreen implements Screen {
     // Current running game
     private final RotNRun game;
     // Sprite
-    private final float spriteWidth = 80f;
-    private final float spriteHeight = 1.5f * spriteWidth;
-    private final float spriteHitBoxInset = 10f;
+    private final float spriteWidth = GameSimulation.SPRITE_WIDTH;
+    private final float spriteHeight = GameSimulation.SPRITE_HEIGHT;
     // Item Sprite
-    private final float itemSpriteLength = 65f;
-    private final float itemSpriteHitBoxInset = 0f;
+    private final float itemSpriteLength = GameSimulation.ITEM_SPRITE_LENGTH;
     // Platform
-    private final float platformWidth = 9f * 150f;
-    private final float platformHeight = 7f * 150f;
-    private final float platformX = (RotNRun.VIRTUAL_WIDTH / 2f) - (platformWidth / 2f);
-    // Platform play area
-    private final float platformAreaPadding = 20f;
-    private final float platformAreaX = platformX + platformAreaPadding;
-    private final float platformAreaMaxX = platformX + platformWidth
-                                                - spriteWidth - platformAreaPadding;
-    private final float platformAreaY = 150f + platformAreaPadding;
-    private final float platformAreaMaxY = platformHeight - spriteHeight
-                                                + platformAreaPadding;
-    // Player movement speed
-    private final float playerSpeed = 300f;
+    private final float platformWidth = GameSimulation.PLATFORM_WIDTH;
+    private final float platformHeight = GameSimulation.PLATFORM_HEIGHT;
     // Player ability radius
-    private final float abilityRadius = 150f;
+    private final float abilityRadius = GameSimulation.ABILITY_RADIUS;
     // GUI
     private final float topGuiWindowXPadding = 60;
     private final float topGuiWindowYPadding = 40;
     private final float topGuiYCenter = RotNRun.VIRTUAL_HEIGHT - 50
                                                 - topGuiWindowYPadding;
     // Textures
-    // Background
-    private final Texture backgroundTexture = new Texture("City_Ruins.png");
-    private final Texture platformTexture = new Texture("Map_Platform.png");
+    // Background, too large to pack, so each is drawn from its own texture
+    private final Texture backgroundTexture;
+    private final Texture platformTexture;
+    // Texture regions, all from the game's atlas
     // Player
-    private final Texture playerTexture = new Texture("Player_Sprite_Large.png");
-    private final Texture playerDamagedTexture = new Texture("Player_Sprite_Large_Damaged.png");
-    private final Texture abilityTexture = new Texture("Ability_Circle.png");
-    // Enemy
-    private final Texture standardZombieTexture = new Texture("Zombie_Sprite_Large.png");
-    // Items
-    private final Texture itemHealthTexture = new Texture("Item_Health.png");
-    private final Texture itemStaminaTexture = new Texture("Item_Stamina.png");
-    private final Texture itemScoreTexture = new Texture("Item_Score.png");
+    private final TextureRegion playerRegion;
+    private final TextureRegion playerDamagedRegion;
+    private final TextureRegion abilityTexture;
+    // Enemies and items, by archetype index
+    private final TextureRegion[] enemyRegions;
+    private final TextureRegion[] itemRegions;
     // HUD
-    private final Texture healthFilledTexture = new Texture("Health_Filled.png");
-    private final Texture healthEmptyTexture = new Texture("Health_Empty.png");
-    private final Texture staminaContainerTexture = new Texture("Stamina_Bar_Container.png");
-    private final Texture staminaFillingTexture = new Texture("Stamina_Bar_Filling.png");
-    // Sounds
-    private final Music bgm = Gdx.audio.newMusic(Gdx.files.internal("Haunted Visions.wav"));
-    // Sprites
-    private final Array<Entity> allEntities;
-    // Player
-    private final Difficulty gameDifficulty;
-    private final Player playerSprite;
-    private final Rectangle playerHitBox;
-    private final Circle playerAbility;
-    // Enemy
-    private final Array<Enemy> enemySprites;
-    private final Rectangle enemyHitBox;
-    // Item
-    private final Array<Item> itemSprites;
-    private final Rectangle itemHitBox;
-    // Backend
-    private float staminaDecreaseTimer;
-    private float abilityChargeTimer;
-    private boolean abilityActivated;
-    private float abilityCooldownTimer;
-    private boolean playerIsInvincible;
-    private float invincibilityTimer;
-    private float enemySpawnTimer;
-    private float itemSpawnTimer;
+    private final TextureRegion healthFilledTexture;
+    private final TextureRegion healthEmptyTexture;
+    private final TextureRegion staminaContainerTexture;
+    private final TextureRegion staminaFillingTexture;
+    // Gameplay
+    private final GameSimulation simulation;
+    private final InputCommand inputCommand;
+    // Runs the simulation on its own thread, or null to tick it on the render thread
+    private final SimulationThread simulationThread;
+    // Captured every frame when the simulation runs on the render thread
+    private final SimulationSnapshot frameSnapshot;
+    // Either the input of this run being recorded, or the recorded run being replayed
+    private final InputLog recording;
+    private final InputReplay replay;
+    // HUD text
+    private final CachedText scoreText;
+    // Profiling
+    private final FrameProfiler profiler;
+    private final ProfilerOverlay profilerOverlay;
 
     /**
      * Constructs a GameScreen object with the specified instance of game.
      *
      * @param game a RotNRun
      * @param difficulty a Difficulty
-     * @throws IllegalArgumentException if game is null
+     * @throws IllegalArgumentException if game or difficulty is null
      */
     public GameScreen(final RotNRun game, final Difficulty difficulty) {
-        if (game == null) {
-            throw new IllegalArgumentException("There is no game to the apply screen to.");
-        }
-        this.game = game;
-        // Sprites
-        allEntities = new Array<>();
-        // Player
-        gameDifficulty = difficulty;
-        playerSprite = Generate.createPlayer(playerTexture, gameDifficulty);
-        playerSprite.setSize(spriteWidth, spriteHeight);
-        playerSprite.setCenter((RotNRun.VIRTUAL_WIDTH / 2f), (RotNRun.VIRTUAL_HEIGHT / 2f));
-        allEntities.add(playerSprite);
-        playerHitBox = new Rectangle();
-        playerHitBox.setWidth(spriteWidth - (spriteHitBoxInset * 2));
-        playerHitBox.setHeight(spriteHeight - (spriteHitBoxInset * 2));
-        playerAbility = new Circle();
-        playerAbility.setRadius(abilityRadius);
-        // Enemies
-        enemySprites = new Array<>();
-        enemyHitBox = new Rectangle();
-        enemyHitBox.setWidth(spriteWidth - (spriteHitBoxInset * 2));
-        enemyHitBox.setHeight(spriteHeight - (spriteHitBoxInset * 2));
-        // Items
-        itemSprites = new Array<>();
-        itemHitBox = new Rectangle();
-        itemHitBox.setWidth(itemSpriteLength - (itemSpriteHitBoxInset * 2));
-        itemHitBox.setHeight(itemSpriteLength - (itemSpriteHitBoxInset * 2));
-        // Backend
-        staminaDecreaseTimer = 0;
-        abilityChargeTimer = 0;
-        abilityActivated = false;
-        abilityCooldownTimer = 0;
-        playerIsInvincible = false;
-        invincibilityTimer = 0;
-        enemySpawnTimer = 0;
-        itemSpawnTimer = 0;
+        this(game, difficulty, null);
     }
 
     /**
-     * Runs whenever the screen in shown.
-     */
-    @Override
-    public void show() {
-        bgm.play();
-    }
-
-    /**
-     * Renders this GameScreen.
+     * Constructs a GameScreen that replays the recorded run instead of reading input.
+     * The replay is not saved as a run.
      *
-     * @param delta a float
-     */
-    @Override
-    public void render(final float delta) {
-        // Clears screen
-        game.clearViewport();
-
-        // Increments and checks on timers
-        incrementTimers();
-        checkPlayerTimers();
-        checkSpawnTimers();
-        // Draw elements to screen
-        drawAll();
-        // Check for inputs
-        inputAll();
-        // Run logic
-        logicAll();
-    }
-
-    /*
-     * Increments timers by delta.
+     * @param game a RotNRun
+     * @param replayLog an InputLog
+     * @throws IllegalArgumentException if game or replayLog is null
      */
-    private void incrementTimers() {
-        float delta = Gdx.graphics.getDeltaTime();
-        staminaDecreaseTimer += delta;
-        if (!abilityActivated) {
-            abilityChargeTimer += delta;
-        }
-        if (abilityActivated) {
-            abilityCooldownTimer += delta;
-        }
-        if (playerIsInvincible) {
-            invincibilityTimer += delta;
-        }
-        enemySpawnTimer += delta;
-        itemSpawnTimer += delta;
+    public GameScreen(final RotNRun game, final InputLog replayLog) {
+        this(game, null, replayLog);
     }
 
     /*
-     * Checks on player related timers.
+     * Constructs a GameScreen that plays a new run on difficulty, or replays replayLog.
      */
-    private void checkPlayerTimers() {
-        final float staminaDecreaseTimerMax = 1f;
-        if (staminaDecreaseTimer >= staminaDecreaseTimerMax) {
-            playerSprite.modifyCurrentStamina(-1);
-            staminaDecreaseTimer = 0;
-        }
-        final float abilityChargeTimerMax = 0.5f;
-        if (abilityChargeTimer >= abilityChargeTimerMax) {
-            playerSprite.increaseCurrentCharge();
-            abilityChargeTimer = 0;
-        }
-        final float abilityCooldownTimerMax = 1.5f;
-        if (abilityCooldownTimer >= abilityCooldownTimerMax) {
-            abilityActivated = false;
-            abilityCooldownTimer = 0;
-        }
-        final float invincibilityTimerMax = 3f;
-        if (invincibilityTimer >= invincibilityTimerMax) {
-            playerIsInvincible = false;
-            invincibilityTimer = 0;
+    private GameScreen(final RotNRun game, final Difficulty difficulty,
+                       final InputLog replayLog) {
+        if (game == null) {
+            throw new IllegalArgumentException("There is no game to the apply screen to.");
         }
-    }
-
-    /*
-     * Checks on entity spawn timers.
-     */
-    private void checkSpawnTimers() {
-        final float enemySpawnTimerMax = 5.0f;
-        if (enemySpawnTimer >= enemySpawnTimerMax) {
-            createEnemy();
-            enemySpawnTimer = 0;
+        if (difficulty == null && replayLog == null) {
+            throw new IllegalArgumentException("There is no run to play or replay.");
         }
-        final float itemSpawnTimerMax = 3.5f;
-        if (itemSpawnTimer >= itemSpawnTimerMax) {
-            createItem();
-            itemSpawnTimer = 0;
+        this.game = game;
+        backgroundTexture = game.getAssets().acquire(AssetService.CITY_RUINS, Texture.class);
+        platformTexture = game.getAssets().acquire(AssetService.MAP_PLATFORM, Texture.class);
+        playerRegion = game.getRegion("Player_Sprite_Large");
+        playerDamagedRegion = game.getRegion("Player_Sprite_Large_Damaged");
+        abilityTexture = game.getRegion("Ability_Circle");
+        healthFilledTexture = game.getRegion("Health_Filled");
+        healthEmptyTexture = game.getRegion("Health_Empty");
+        staminaContainerTexture = game.getRegion("Stamina_Bar_Container");
+        staminaFillingTexture = game.getRegion("Stamina_Bar_Filling");
+        // Gameplay
+        if (replayLog == null) {
+            simulation = new GameSimulation(difficulty, game.nextRunSeed());
+            recording = new InputLog(difficulty, simulation.getSeed());
+            replay = null;
+            Gdx.app.log("GameScreen", "Run seed: " + simulation.getSeed());
+        } else {
+            replay = new InputReplay(replayLog);
+            simulation = replay.createSimulation();
+            recording = null;
+            Gdx.app.log("GameScreen", "Replaying " + replayLog);
+        }
+        final ArchetypeRegistry archetypes = simulation.getArchetypes();
+        enemyRegions = new TextureRegion[archetypes.getEnemyCount()];
+        for (int index = 0; index < enemyRegions.length; index++) {
+            enemyRegions[index] = game.getRegion(archetypes.getEnemy(index).getRegion());
+        }
+        itemRegions = new TextureRegion[archetypes.getItemCount()];
+        for (int index = 0; index < itemRegions.length; index++) {
+            itemRegions[index] = game.getRegion(archetypes.getItem(index).getRegion());
+        }
+        // Launch with -Drotnrun.bruteForceCollision=true to compare against testing every entity
+        simulation.setUseSpatialGrid(!Boolean.getBoolean("rotnrun.bruteForceCollision"));
+        inputCommand = new InputCommand();
+        scoreText = new CachedText(game.getNormalText());
+        // Profiling
+        profiler = game.getProfiler();
+        profilerOverlay = new ProfilerOverlay(profiler);
+        // Launch with -Drotnrun.simulationThread=true to tick apart from drawing
+        if (Boolean.getBoolean("rotnrun.simulationThread")) {
+            // The profiler belongs to the render thread, so ticks go untimed
+            setTickPhasesTimed(false);
+            simulationThread = new SimulationThread(simulation, recording, replay);
+            frameSnapshot = null;
+            simulationThread.start();
+        } else {
+            setTickPhasesTimed(true);
+            simulation.setProfiler(profiler);
+            simulationThread = null;
+            frameSnapshot = new SimulationSnapshot();
         }
     }
 
     /*
-     * Creates a new Enemy and stores it in enemySprites.
+     * Sets whether the phases timed inside each tick are timed. The profiler is shared by
+     * every run, so this is set again by each GameScreen.
      */
-    private void createEnemy() {
-        Enemy enemySprite = chooseRandomEnemy();
-        enemySprite.setSize(spriteWidth, spriteHeight);
-        // Randomize spawn location
-        enemySprite.setX(MathUtils.random(platformAreaX, platformAreaMaxX));
-        enemySprite.setY(MathUtils.random(platformAreaY, platformAreaMaxY));
-        enemySprites.add(enemySprite); // Add it to the list
-        allEntities.add(enemySprite);
+    private void setTickPhasesTimed(final boolean timed) {
+        profiler.setPhaseTimed(FrameProfiler.TIMERS, timed);
+        profiler.setPhaseTimed(FrameProfiler.SPAWN, timed);
+        profiler.setPhaseTimed(FrameProfiler.LOGIC, timed);
     }
 
-    /*
-     * Creates a new Item and stores it in itemSprites.
-     */
-    private void createItem() {
-        Item itemSprite = chooseRandomItem();
-        itemSprite.setSize(itemSpriteLength, itemSpriteLength);
-        // Randomize spawn location
-        itemSprite.setX(MathUtils.random(platformAreaX, platformAreaMaxX));
-        itemSprite.setY(MathUtils.random(platformAreaY, platformAreaMaxY));
-        itemSprites.add(itemSprite); // Add it to the list
-        allEntities.add(itemSprite);
-    }
-
-    /*
-     * Selects and returns a random enemy.
+    /**
+     * Runs whenever the screen in shown.
      */
-    private Enemy chooseRandomEnemy() {
-        final int chance = MathUtils.random(1, 50);
-        final int slowZombie = 38;
-        final int fastZombie = 32;
-        if (chance > slowZombie) { // 24% chance for healing item
-            return Generate.createBrokenZombie(standardZombieTexture);
-        } else if (chance > fastZombie) { // 12% chance for stamina item
-            return Generate.createDogZombie(standardZombieTexture);
-        } else { // 64% chance for score item
-            return Generate.createStandardZombie(standardZombieTexture);
-        }
+    @Override
+    public void show() {
+        // Crossfades from the previous screen's track
+        game.getMusic().play(AssetService.GAME_MUSIC);
     }
 
-    /*
-     * Selects and returns a random item.
+    /**
+     * Renders this GameScreen.
+     *
+     * @param delta a float
      */
-    private Item chooseRandomItem() {
-        final int chanceType = MathUtils.random(1, 100);
-        final int chanceSize = MathUtils.random(1, 10);
-        final int healthItem = 90;
-        final int staminaItem = 60;
-        if (chanceType > healthItem) { // 10% chance for healing item
-            return chooseRandomHealthItem(chanceSize);
-        } else if (chanceType > staminaItem) { // 30% chance for stamina item
-            return chooseRandomStaminaItem(chanceSize);
-        } else { // 60% chance for score item
-            return chooseRandomScoreItem(chanceSize);
-        }
-    }
+    @Override
+    public void render(final float delta) {
+        final long frameStart = profiler.startPhase();
+        // Clears screen
+        game.clearViewport();
 
-    /*
-     * Selects and returns a random health item.
-     */
-    private Item chooseRandomHealthItem(final int chance) {
-        final int majorHealth = 7;
-        if (chance > majorHealth) { // 30% chance for major
-            return Generate.createBandage(itemHealthTexture);
-        } else { // 70% chance for minor
-            return Generate.createMedKit(itemHealthTexture);
+        // F3 shows the time taken by each phase of the frame
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            profilerOverlay.toggle();
+        }
+        if (replay == null) {
+            // Check for inputs
+            final long inputStart = profiler.startPhase();
+            inputAll();
+            profiler.endPhase(FrameProfiler.INPUT, inputStart);
+        }
+        final SimulationSnapshot snapshot;
+        final float alpha;
+        if (simulationThread == null) {
+            if (replay == null) {
+                // Run logic on a fixed timestep, recording the input of every tick
+                recording.record(inputCommand, simulation.advance(delta, inputCommand));
+            } else {
+                advanceReplay(delta);
+            }
+            snapshot = frameSnapshot;
+            snapshot.capture(simulation, replay != null && replay.isFinished(), 0);
+            alpha = simulation.getAlpha();
+        } else {
+            if (replay == null) {
+                simulationThread.setInput(inputCommand);
+            }
+            snapshot = simulationThread.acquireSnapshot();
+            alpha = snapshot.getAlphaAt(System.nanoTime());
         }
-    }
-
-    /*
-     * Selects and returns a random stamina item.
-     */
-    private Item chooseRandomStaminaItem(final int chance) {
-        final int majorStamina = 8;
-        final int mediumStamina = 4;
-        if (chance > majorStamina) { // 20% chance for major
-            return Generate.createWaterBottle(itemStaminaTexture);
-        } else if (chance > mediumStamina) { // 40% chance for medium
-            return Generate.createApple(itemStaminaTexture);
-        } else { // 40% chance for minor
-            return Generate.createSandwich(itemStaminaTexture);
+        // Draw elements to screen
+        final long drawStart = profiler.startPhase();
+        drawAll(snapshot, alpha);
+        profiler.endPhase(FrameProfiler.DRAW, drawStart);
+        profiler.endPhase(FrameProfiler.FRAME, frameStart);
+        // The frame is stored by the game once its draw calls are counted
+        profiler.setEntityCounts(snapshot.getEnemyCount(), snapshot.getItemCount());
+        // Check for the end of the run
+        if (replay == null) {
+            logicGameOver(snapshot);
+            logicEndRun(snapshot);
+        } else {
+            logicEndReplay(snapshot);
         }
     }
 
     /*
-     * Selects and returns a random score item.
+     * Runs the ticks due on the fixed timestep, each with its recorded input.
      */
-    private Item chooseRandomScoreItem(final int chance) {
-        final int majorScore = 8;
-        final int mediumScore = 5;
-        if (chance > majorScore) { // 20% chance for major
-            return Generate.createNails(itemScoreTexture);
-        } else if (chance > mediumScore) { // 30% chance for medium
-            return Generate.createWoodenPlank(itemScoreTexture);
-        } else { // 50% chance for minor
-            return Generate.createMetalSheet(itemScoreTexture);
+    private void advanceReplay(final float delta) {
+        final int dueTicks = simulation.takeDueTicks(delta);
+        for (int tick = 0; tick < dueTicks && !simulation.isFinished(); tick++) {
+            if (!replay.next(inputCommand)) {
+                break;
+            }
+            simulation.tick(inputCommand);
         }
     }
 
@@ -345,18 +260,21 @@ public class GameScreen implements Screen {
     /*
      * Draws all elements onto the screen.
      */
-    private void drawAll() {
+    private void drawAll(final SimulationSnapshot snapshot, final float alpha) {
         // For brevity
         SpriteBatch batch = game.getSpriteBatch();
         BitmapFont normalText = game.getNormalText();
         // Draw elements to screen
         batch.begin();
             drawBackground(batch);
-            drawSprites(batch);
-            drawHUDStamina(batch);
-            drawHUDScore(batch, normalText);
-            drawHUDHealth(batch);
-            drawHUDAbility(batch);
+            drawSprites(batch, snapshot, alpha);
+            drawHUDStamina(batch, snapshot);
+            drawHUDScore(batch, snapshot);
+            drawHUDHealth(batch, snapshot);
+            drawHUDAbility(batch, snapshot);
+            profilerOverlay.draw(batch, normalText, topGuiWindowXPadding,
+                RotNRun.VIRTUAL_HEIGHT - topGuiWindowYPadding * 8,
+                snapshot.getEnemyCount(), snapshot.getItemCount(), game.getRenderCalls());
         batch.end();
     }
 
@@ -370,42 +288,70 @@ public class GameScreen implements Screen {
     }
 
     /*
-     * Draws sprites to the screen.
+     * Draws sprites to the screen from back to front, interpolated between the last two ticks.
      */
-    private void drawSprites(final SpriteBatch batch) {
-        if (abilityActivated) {
+    private void drawSprites(final SpriteBatch batch, final SimulationSnapshot snapshot,
+                             final float alpha) {
+        if (snapshot.isAbilityActivated()) {
             batch.draw(abilityTexture,
-                playerSprite.getX() + (spriteWidth / 2) - abilityRadius,
-                playerSprite.getY() + (spriteHeight / 2) - abilityRadius,
+                snapshot.getPlayerX(alpha) + (spriteWidth / 2) - abilityRadius,
+                snapshot.getPlayerY(alpha) + (spriteHeight / 2) - abilityRadius,
                 abilityRadius * 2, abilityRadius * 2);
         }
-        if (playerIsInvincible) {
-            playerSprite.setTexture(playerDamagedTexture);
-        } else {
-            playerSprite.setTexture(playerTexture);
+        // Swaps to the damaged texture while invincible
+        final TextureRegion currentPlayerRegion =
+            snapshot.isPlayerInvincible() ? playerDamagedRegion : playerRegion;
+        for (int index = 0; index < snapshot.getEntryCount(); index++) {
+            final float x = snapshot.getX(index, alpha);
+            final float y = snapshot.getY(index, alpha);
+            switch (snapshot.getKind(index)) {
+                case SimulationSnapshot.PLAYER:
+                    drawRegion(batch, currentPlayerRegion, x, y, spriteWidth, spriteHeight,
+                        snapshot.isFlipX(index));
+                    break;
+                case SimulationSnapshot.ENEMY:
+                    drawRegion(batch, enemyRegions[snapshot.getArchetype(index)], x, y,
+                        spriteWidth, spriteHeight, snapshot.isFlipX(index));
+                    break;
+                case SimulationSnapshot.ITEM:
+                    batch.draw(itemRegions[snapshot.getArchetype(index)], x, y,
+                        itemSpriteLength, itemSpriteLength);
+                    break;
+                default:
+                    break;
+            }
         }
-        allEntities.sort(new EntityComparator());
-        for (Entity entity: allEntities) {
-            entity.draw(batch);
+    }
+
+    /*
+     * Draws the region, mirrored by a negative width when flipped.
+     */
+    private void drawRegion(final SpriteBatch batch, final TextureRegion region,
+                            final float x, final float y, final float width, final float height,
+                            final boolean flipX) {
+        if (flipX) {
+            batch.draw(region, x + width, y, -width, height);
+        } else {
+            batch.draw(region, x, y, width, height);
         }
     }
 
     /*
      * Draws player health to the screen.
      */
-    private void drawHUDHealth(final SpriteBatch batch) {
+    private void drawHUDHealth(final SpriteBatch batch, final SimulationSnapshot snapshot) {
         final float healthWidth = 11 * 10;
         final float healthHeight = 9 * 10;
         final float healthMargin = 20;
         final float healthY = topGuiYCenter - (healthHeight / 2);
         float healthX = RotNRun.VIRTUAL_WIDTH - healthWidth - topGuiWindowXPadding;
         for (int index = 0;
-             index < playerSprite.getCurrentHP(); index++) {
+             index < snapshot.getCurrentHP(); index++) {
             batch.draw(healthFilledTexture, healthX, healthY, healthWidth, healthHeight);
             healthX -= healthWidth + healthMargin;
         }
         for (int index = 0;
-             index < (playerSprite.getMaxHP() - playerSprite.getCurrentHP()); index++) {
+             index < (snapshot.getMaxHP() - snapshot.getCurrentHP()); index++) {
             batch.draw(healthEmptyTexture, healthX, healthY, healthWidth, healthHeight);
             healthX -= healthWidth + healthMargin;
         }
@@ -414,12 +360,12 @@ public class GameScreen implements Screen {
     /*
      * Draws player stamina to the screen.
      */
-    private void drawHUDStamina(final SpriteBatch batch) {
+    private void drawHUDStamina(final SpriteBatch batch, final SimulationSnapshot snapshot) {
         final float staminaWidth = 9 * 90;
         final float staminaHeight = 9 * 9;
         final float staminaY = topGuiYCenter - (staminaHeight / 2);
         final float staminaPercentage =
-            (float) playerSprite.getCurrentStamina() / playerSprite.getMaxStamina();
+            (float) snapshot.getCurrentStamina() / snapshot.getMaxStamina();
         batch.draw(staminaFillingTexture, topGuiWindowXPadding, staminaY,
             (staminaWidth *  staminaPercentage), staminaHeight);
         batch.draw(staminaContainerTexture, topGuiWindowXPadding, staminaY,
@@ -429,24 +375,25 @@ public class GameScreen implements Screen {
     /*
      * Draws player score to the screen.
      */
-    private void drawHUDScore(final SpriteBatch batch, final BitmapFont font) {
-        String scoreDisplay = String.format("%03d", playerSprite.getCurrentScore());
-        font.draw(batch, scoreDisplay,
+    private void drawHUDScore(final SpriteBatch batch, final SimulationSnapshot snapshot) {
+        // Only laid out again when the score changes
+        scoreText.setNumber("", snapshot.getCurrentScore(), 3);
+        scoreText.draw(batch,
             topGuiWindowXPadding,
             RotNRun.VIRTUAL_HEIGHT - topGuiWindowYPadding
-                - staminaContainerTexture.getHeight() * 2);
+                - staminaContainerTexture.getRegionHeight() * 2);
     }
 
     /*
      * Draws player ability charge to the screen.
      */
-    private void drawHUDAbility(final SpriteBatch batch) {
+    private void drawHUDAbility(final SpriteBatch batch, final SimulationSnapshot snapshot) {
         final float staminaWidth = 9 * 120;
         final float staminaHeight = 9 * 9;
         final float staminaY = topGuiWindowYPadding;
         final float staminaX =  RotNRun.VIRTUAL_WIDTH / 2f - staminaWidth / 2f;
         final float staminaPercentage =
-            (float) playerSprite.getCurrentCharge() / playerSprite.getMaxCharge();
+            (float) snapshot.getCurrentCharge() / snapshot.getMaxCharge();
         batch.draw(staminaFillingTexture, staminaX, staminaY,
             (staminaWidth *  staminaPercentage), staminaHeight);
         batch.draw(staminaContainerTexture, staminaX, staminaY,
@@ -456,15 +403,13 @@ public class GameScreen implements Screen {
 
 
     /*
-     * Checks for all types of input.
+     * Checks for all types of input and records them into the input command.
      */
     private void inputAll() {
-        playerSprite.setX(MathUtils.clamp(playerSprite.getX(),
-            platformAreaX, platformAreaMaxX));
-        playerSprite.setY(MathUtils.clamp(playerSprite.getY(),
-            platformAreaY, platformAreaMaxY));
         if (Gdx.input.isTouched()) {
             inputMovementTouch();
+        } else {
+            inputCommand.clearTouch();
         }
         inputMovementKeys();
     }
@@ -473,166 +418,60 @@ public class GameScreen implements Screen {
      * Checks for movement inputs using touch.
      */
     private void inputMovementTouch() {
-        float delta = Gdx.graphics.getDeltaTime();
         game.setMousePosition();
-        if (playerSprite.getX() > game.getMouseX()) {
-            playerSprite.translateX(-playerSpeed * delta);
-            if (playerSprite.isFlipX()) {
-                playerSprite.flip(true, false);
-            }
-        }
-        if (playerSprite.getX() < game.getMouseX()) {
-            playerSprite.translateX(playerSpeed * delta);
-            if (!playerSprite.isFlipX()) {
-                playerSprite.flip(true, false);
-            }
-        }
-
-        if (playerSprite.getY() > game.getMouseY()) {
-            playerSprite.translateY(-playerSpeed * delta);
-        }
-        if (playerSprite.getY() < game.getMouseY()) {
-            playerSprite.translateY(playerSpeed * delta);
-        }
+        inputCommand.setTouch(game.getMouseX(), game.getMouseY());
     }
 
     /*
      * Checks for movement inputs using the keyboard.
      */
     private void inputMovementKeys() {
-        float delta = Gdx.graphics.getDeltaTime();
-        game.setMousePosition();
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT)
-            || Gdx.input.isKeyPressed(Input.Keys.D)) {
-            playerSprite.translateX(playerSpeed * delta);
-            if (!playerSprite.isFlipX()) {
-                playerSprite.flip(true, false);
-            }
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT)
-            || Gdx.input.isKeyPressed(Input.Keys.A)) {
-            playerSprite.translateX(-playerSpeed * delta);
-            if (playerSprite.isFlipX()) {
-                playerSprite.flip(true, false);
-            }
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN)
-            || Gdx.input.isKeyPressed(Input.Keys.S)) {
-            playerSprite.translateY(-playerSpeed * delta);
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.UP)
-            || Gdx.input.isKeyPressed(Input.Keys.W)) {
-            playerSprite.translateY(playerSpeed * delta);
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.SPACE) && playerSprite.getIsCharged()) {
-            playerSprite.useAbility();
-            abilityActivated = true;
-        }
-    }
-
-    /*
-     * Update hit box position.
-     */
-    private void updateEntityHitBoxCoordinates(final Rectangle entityHitBox, final Entity entity,
-                                               final float insetValue) {
-        entityHitBox.setPosition(entity.getX() + insetValue, entity.getY() + insetValue);
+        inputCommand.setKey(InputCommand.RIGHT,
+            Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D));
+        inputCommand.setKey(InputCommand.LEFT,
+            Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.A));
+        inputCommand.setKey(InputCommand.DOWN,
+            Gdx.input.isKeyPressed(Input.Keys.DOWN) || Gdx.input.isKeyPressed(Input.Keys.S));
+        inputCommand.setKey(InputCommand.UP,
+            Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W));
+        inputCommand.setKey(InputCommand.ABILITY, Gdx.input.isKeyPressed(Input.Keys.SPACE));
     }
 
 
 
     /*
-     * Runs all logic.
-     */
-    private void logicAll() {
-        logicEnemyMovement();
-        logicEnemyHitBox();
-        logicItemPickup();
-        logicGameOver();
-        logicEndRun();
-    }
-
-    /*
-     * Runs enemy movement logic.
-     */
-    private void logicEnemyMovement() {
-        float delta = Gdx.graphics.getDeltaTime();
-        for (Enemy enemy : enemySprites) {
-            float speed = enemy.getSpeed();
-            if (enemy.getX() + spriteHitBoxInset > playerSprite.getX()) {
-                enemy.translateX(-speed * delta);
-                if (enemy.isFlipX()) {
-                    enemy.flip(true, false);
-                }
-            }
-            if (enemy.getX() - spriteHitBoxInset < playerSprite.getX()) {
-                enemy.translateX(speed * delta);
-                if (!enemy.isFlipX()) {
-                    enemy.flip(true, false);
-                }
-            }
-
-            if (enemy.getY() + spriteHitBoxInset > playerSprite.getY()) {
-                enemy.translateY(-speed * delta);
-            }
-            if (enemy.getY() - spriteHitBoxInset < playerSprite.getY()) {
-                enemy.translateY(speed * delta);
-            }
-        }
-    }
-
-    /*
-     * Runs logic that are affected by the enemy hit box.
-     */
-    private void logicEnemyHitBox() {
-        for (Enemy enemy : enemySprites) {
-            updateEntityHitBoxCoordinates(enemyHitBox, enemy, spriteHitBoxInset);
-            if (abilityActivated) {
-                playerAbility.setPosition(playerSprite.getX() + (spriteWidth / 2),
-                    playerSprite.getY() + (spriteHeight / 2));
-                if (Intersector.overlaps(playerAbility, enemyHitBox)) {
-                    enemySprites.removeValue(enemy, true);
-                    allEntities.removeValue(enemy, true);
-                }
-            }
-            if (enemyHitBox.overlaps(playerHitBox) && !playerIsInvincible) {
-                enemy.attackPlayer(playerSprite);
-                playerIsInvincible = true;
-            }
-        }
-    }
-
-    /*
-     * Run Item pickup logic.
+     * Run end run logic.
      */
-    private void logicItemPickup() {
-        for (Item item : itemSprites) {
-            updateEntityHitBoxCoordinates(playerHitBox, playerSprite, spriteHitBoxInset);
-            updateEntityHitBoxCoordinates(itemHitBox, item, itemSpriteHitBoxInset);
-            if (itemHitBox.overlaps(playerHitBox)) {
-                item.increasePlayerStat(playerSprite);
-                itemSprites.removeValue(item, true);
-                allEntities.removeValue(item, true);
-            }
+    private void logicEndRun(final SimulationSnapshot snapshot) {
+        if (snapshot.isRunEnded() && !snapshot.isGameOver()) {
+            dispose();
+            game.setScreen(new ResultScreen(game, snapshot.getDifficulty(),
+                snapshot.getCurrentScore()));
         }
     }
 
     /*
-     * Run end run logic.
+     * Run game over logic.
      */
-    private void logicEndRun() {
-        if (playerSprite.getCurrentStamina() <= 0) {
+    private void logicGameOver(final SimulationSnapshot snapshot) {
+        if (snapshot.isGameOver()) {
+            // Kept in the run history, but the score does not count
+            game.getProfile().recordRun(new RunRecord(System.currentTimeMillis(),
+                snapshot.getDifficulty(), snapshot.getCurrentScore(), false));
             dispose();
-            game.setScreen(new ResultScreen(game, gameDifficulty, playerSprite.getCurrentScore()));
+            game.setScreen(new GameOverScreen(game));
         }
     }
 
     /*
-     * Run game over logic.
+     * Returns to the main menu once the recorded run has been replayed.
      */
-    private void logicGameOver() {
-        if (playerSprite.getCurrentHP() <= 0) {
+    private void logicEndReplay(final SimulationSnapshot snapshot) {
+        if (snapshot.isGameOver() || snapshot.isRunEnded() || snapshot.isInputEnded()) {
+            // The simulation is only safe to read once its thread has stopped
             dispose();
-            game.setScreen(new GameOverScreen(game));
+            Gdx.app.log("GameScreen", "Replay ended: " + simulation);
+            game.setScreen(new MainMenuScreen(game));
         }
     }
 
@@ -663,24 +502,23 @@ public class GameScreen implements Screen {
     }
 
     /**
-     * Removes resources.
+     * Stops the simulation thread, releases this screen's hold on its shared textures
+     * and saves the run's input.
      */
     @Override
     public void dispose() {
-        backgroundTexture.dispose();
-        platformTexture.dispose();
-        playerTexture.dispose();
-        playerDamagedTexture.dispose();
-        abilityTexture.dispose();
-        standardZombieTexture.dispose();
-        itemHealthTexture.dispose();
-        itemStaminaTexture.dispose();
-        itemScoreTexture.dispose();
-        healthFilledTexture.dispose();
-        healthEmptyTexture.dispose();
-        staminaContainerTexture.dispose();
-        staminaFillingTexture.dispose();
-        bgm.dispose();
+        if (simulationThread != null) {
+            try {
+                simulationThread.stop();
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        game.getAssets().release(AssetService.CITY_RUINS);
+        game.getAssets().release(AssetService.MAP_PLATFORM);
+        if (recording != null) {
+            game.writeInputLog(recording);
+        }
     }
 
 
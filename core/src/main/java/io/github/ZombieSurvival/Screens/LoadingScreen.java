@@ -0,0 +1,125 @@
+package io.github.ZombieSurvival.Screens;
+
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import io.github.ZombieSurvival.Assets.AssetService;
+import io.github.ZombieSurvival.RotNRun;
+
+/**
+ * The loading screen of the game, shown while every asset is loaded in the background.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class LoadingScreen implements Screen {
+    // Current running game
+    private final RotNRun game;
+    // Time spent loading each frame, leaving the rest of the frame to draw the bar
+    private final int loadBudgetMillis = 10;
+    // Bar Values
+    private final float barWidth = 1200f;
+    private final float barHeight = 60f;
+    private final float barBorder = 6f;
+    private final float barX = RotNRun.VIRTUAL_WIDTH / 2f - barWidth / 2f;
+    private final float barY = RotNRun.VIRTUAL_HEIGHT / 2f - barHeight / 2f;
+    // Textures
+    // Drawn stretched, since the atlas is not loaded yet
+    private final Texture pixelTexture;
+
+    /**
+     * Constructs a LoadingScreen object with the specified instance of game.
+     *
+     * @param game a RotNRun
+     * @throws IllegalArgumentException if game is null
+     */
+    public LoadingScreen(final RotNRun game) {
+        if (game == null) {
+            throw new IllegalArgumentException("There is no game to the apply screen to.");
+        }
+        this.game = game;
+        final Pixmap pixel = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixel.setColor(Color.WHITE);
+        pixel.fill();
+        pixelTexture = new Texture(pixel);
+        pixel.dispose();
+    }
+
+    @Override
+    public void show() {
+
+    }
+
+    /**
+     * Renders this LoadingScreen, moving on to the start screen once loading is done.
+     *
+     * @param delta a float
+     */
+    @Override
+    public void render(final float delta) {
+        final AssetService assets = game.getAssets();
+        if (assets.update(loadBudgetMillis)) {
+            game.finishLoading();
+            dispose();
+            game.setScreen(game.createStartScreen());
+            return;
+        }
+        // Clears screen
+        game.clearViewport();
+        // For brevity
+        SpriteBatch batch = game.getSpriteBatch();
+        // Draw elements to screen
+        batch.begin();
+            drawProgressBar(batch, assets.getProgress());
+        batch.end();
+    }
+
+    /*
+     * Draws an outlined bar filled up to the progress.
+     */
+    private void drawProgressBar(final SpriteBatch batch, final float progress) {
+        batch.setColor(Color.WHITE);
+        batch.draw(pixelTexture, barX - barBorder, barY - barBorder,
+            barWidth + barBorder * 2, barHeight + barBorder * 2);
+        batch.setColor(Color.BLACK);
+        batch.draw(pixelTexture, barX, barY, barWidth, barHeight);
+        batch.setColor(Color.WHITE);
+        batch.draw(pixelTexture, barX, barY, barWidth * progress, barHeight);
+    }
+
+    /**
+     * Updates viewport by width and height when window is resized.
+     *
+     * @param width an int
+     * @param height an int
+     */
+    @Override
+    public void resize(final int width, final int height) {
+        game.updateViewport(width, height);
+    }
+
+    @Override
+    public void pause() {
+
+    }
+
+    @Override
+    public void resume() {
+
+    }
+
+    @Override
+    public void hide() {
+
+    }
+
+    /**
+     * Removes resources.
+     */
+    @Override
+    public void dispose() {
+        pixelTexture.dispose();
+    }
+}
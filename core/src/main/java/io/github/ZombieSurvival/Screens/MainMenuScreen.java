@@ -3,19 +3,13 @@ package io.github.ZombieSurvival.Screens;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.ZombieSurvival.Assets.AssetService;
 import io.github.ZombieSurvival.RotNRun;
+import io.github.ZombieSurvival.Save.ProfileState;
 import io.github.ZombieSurvival.Sprites.Difficulty;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
-import java.util.Scanner;
-
 /**
  * The main menu of the game.
  *
@@ -44,29 +38,28 @@ public class MainMenuScreen implements Screen {
     private final float exitLength = 150f;
     private final float exitXY = 100f;
     private final float exitMaxXY = exitXY + exitLength;
-    // Textures
-    private final Texture gameTitle = new Texture("Game_Title.png");
-    private final Texture easyButtonInactive = new Texture("Difficulty_Easy_Inactive.png");
-    private final Texture easyButtonActive = new Texture("Difficulty_Easy_Active.png");
-    private final Texture normalButtonInactive = new Texture("Difficulty_Normal_Inactive.png");
-    private final Texture normalButtonActive = new Texture("Difficulty_Normal_Active.png");
-    private final Texture normalButtonLocked = new Texture("Difficulty_Normal_Locked.png");
-    private final Texture hardButtonInactive = new Texture("Difficulty_Hard_Inactive.png");
-    private final Texture hardButtonActive = new Texture("Difficulty_Hard_Active.png");
-    private final Texture hardButtonLocked = new Texture("Difficulty_Hard_Locked.png");
-    private final Texture exitButtonInactive = new Texture("Exit_Button_Inactive.png");
-    private final Texture exitButtonActive = new Texture("Exit_Button_Active.png");
-    // Sounds
-    private final Music bgm = Gdx.audio.newMusic(Gdx.files.internal("Labyrinth of Shadows.wav"));
-    // Saved values
-    private int easyHighScore = 0;
-    private boolean easyNewHighScore = false;
-    private int normalHighScore = 0;
-    private boolean normalNewHighScore = false;
-    private int hardHighScore = 0;
-    private boolean hardNewHighScore = false;
-    private boolean normalUnlocked = false;
-    private boolean hardUnlocked = false;
+    // Texture regions, all from the game's atlas
+    private final TextureRegion gameTitle;
+    private final TextureRegion easyButtonInactive;
+    private final TextureRegion easyButtonActive;
+    private final TextureRegion normalButtonInactive;
+    private final TextureRegion normalButtonActive;
+    private final TextureRegion normalButtonLocked;
+    private final TextureRegion hardButtonInactive;
+    private final TextureRegion hardButtonActive;
+    private final TextureRegion hardButtonLocked;
+    private final TextureRegion exitButtonInactive;
+    private final TextureRegion exitButtonActive;
+    // Saved values, shared with every other screen
+    private final ProfileState profile;
+    // Unlocked by cheat for this visit to the menu only, never saved
+    private boolean cheatUnlocked = false;
+    // Text, laid out once
+    private final CachedText highScoresTitle;
+    private final CachedText[] highScoreTexts;
+    private final CachedText newText;
+    private final float scoreDigitsWidth;
+    private final float scoreDigitsHeight;
 
     /**
      * Constructs a MainMenuScreen object with the specified instance of game.
@@ -79,41 +72,29 @@ public class MainMenuScreen implements Screen {
             throw new IllegalArgumentException("There is no game to the apply screen to.");
         }
         this.game = game;
-        try {
-            Scanner scanner = new Scanner(RotNRun.SAVE_FILE_PATH);
-            easyHighScore = scanner.nextInt();
-            easyNewHighScore = scanner.nextBoolean();
-            normalHighScore = scanner.nextInt();
-            normalNewHighScore = scanner.nextBoolean();
-            hardHighScore = scanner.nextInt();
-            hardNewHighScore = scanner.nextBoolean();
-            normalUnlocked = scanner.nextBoolean();
-            hardUnlocked = scanner.nextBoolean();
-            overwriteNewSave();
-        } catch (IOException error) {
-            System.out.println("Failed to read scores from save file.");
-        }
-    }
-
-    /*
-     * Overwrites new values for high scores once viewed.
-     */
-    private void overwriteNewSave() {
-        try {
-            List<String> scores = List.of(
-                Integer.toString(easyHighScore),
-                "false",
-                Integer.toString(normalHighScore),
-                "false",
-                Integer.toString(hardHighScore),
-                "false",
-                Boolean.toString(normalUnlocked),
-                Boolean.toString(hardUnlocked)
-            );
-            Files.write(RotNRun.SAVE_FILE_PATH, scores);
-        } catch (IOException error) {
-            System.out.println("Failed to read scores from save file.");
+        gameTitle = game.getRegion("Game_Title");
+        easyButtonInactive = game.getRegion("Difficulty_Easy_Inactive");
+        easyButtonActive = game.getRegion("Difficulty_Easy_Active");
+        normalButtonInactive = game.getRegion("Difficulty_Normal_Inactive");
+        normalButtonActive = game.getRegion("Difficulty_Normal_Active");
+        normalButtonLocked = game.getRegion("Difficulty_Normal_Locked");
+        hardButtonInactive = game.getRegion("Difficulty_Hard_Inactive");
+        hardButtonActive = game.getRegion("Difficulty_Hard_Active");
+        hardButtonLocked = game.getRegion("Difficulty_Hard_Locked");
+        exitButtonInactive = game.getRegion("Exit_Button_Inactive");
+        exitButtonActive = game.getRegion("Exit_Button_Active");
+        profile = game.getProfile();
+        // Text
+        highScoresTitle = new CachedText(game.getNormalText(), "HIGH SCORES");
+        highScoreTexts = new CachedText[Difficulty.values().length];
+        for (int index = 0; index < highScoreTexts.length; index++) {
+            highScoreTexts[index] = new CachedText(game.getNormalText());
         }
+        newText = new CachedText(game.getYellowText(), "NEW");
+        // High scores are centered as three digits
+        final CachedText scoreDigits = new CachedText(game.getNormalText(), "000");
+        scoreDigitsWidth = scoreDigits.getWidth();
+        scoreDigitsHeight = scoreDigits.getHeight();
     }
 
     /**
@@ -121,7 +102,8 @@ public class MainMenuScreen implements Screen {
      */
     @Override
     public void show() {
-        bgm.play();
+        // Crossfades from the previous screen's track
+        game.getMusic().play(AssetService.MENU_MUSIC);
     }
 
     /**
@@ -178,59 +160,36 @@ public class MainMenuScreen implements Screen {
      * Draws the difficulty high scores text to screen.
      */
     private void drawDifficultyHighScores(final SpriteBatch batch) {
-        BitmapFont normalText = game.getNormalText();
         final float padding = 20f;
 
-        GlyphLayout glyphLayout = new GlyphLayout();
-        glyphLayout.setText(normalText, "HIGH SCORES");
-        float highScoreTextXCenter = (panelWidth / 2) - (glyphLayout.width / 2);
-        float highScoreTextY = difficultyMaxY + (glyphLayout.height + padding) * 2;
-        normalText.draw(batch, "HIGH SCORES",
-            difficultyEasyX + highScoreTextXCenter, highScoreTextY);
+        float highScoreTextXCenter = (panelWidth / 2) - (highScoresTitle.getWidth() / 2);
+        float highScoreTextY = difficultyMaxY + (highScoresTitle.getHeight() + padding) * 2;
+        highScoresTitle.draw(batch, difficultyEasyX + highScoreTextXCenter, highScoreTextY);
 
-        glyphLayout.setText(normalText, "000");
-        float difficultyTextXCenter = (difficultyWidth / 2) - (glyphLayout.width / 2);
-        float difficultyTextY = difficultyMaxY + glyphLayout.height + padding;
+        float difficultyTextXCenter = (difficultyWidth / 2) - (scoreDigitsWidth / 2);
+        float difficultyTextY = difficultyMaxY + scoreDigitsHeight + padding;
 
-        // Easy
-        String easyHS = String.format("%03d", easyHighScore);
-        normalText.draw(batch, easyHS,
+        drawHighScore(batch, Difficulty.EASY,
             difficultyEasyX + difficultyTextXCenter, difficultyTextY);
-
-        // Normal
-        String normalHS = String.format("%03d", normalHighScore);
-        normalText.draw(batch, normalHS,
+        drawHighScore(batch, Difficulty.NORMAL,
             difficultyNormalX + difficultyTextXCenter, difficultyTextY);
-
-        // Hard
-        String hardHS = String.format("%03d", hardHighScore);
-        normalText.draw(batch, hardHS,
+        drawHighScore(batch, Difficulty.HARD,
             difficultyHardX + difficultyTextXCenter, difficultyTextY);
-        // Draw "new" text
-        if (easyNewHighScore || normalNewHighScore || hardNewHighScore) {
-            drawDifficultyNew(batch, difficultyTextXCenter, difficultyTextY);
-        }
     }
 
     /*
-     * Draws the "new" text above the high scores if new value is true.
+     * Draws the difficulty's high score, with the "new" text above it if it is new.
      */
-    private void drawDifficultyNew(final SpriteBatch batch,
-                                   final float difficultyTextXCenter, final float difficultyTextY) {
-        BitmapFont yellowText = game.getYellowText();
-        final float offset = 25f;
+    private void drawHighScore(final SpriteBatch batch, final Difficulty difficulty,
+                               final float x, final float y) {
+        final CachedText highScoreText = highScoreTexts[difficulty.ordinal()];
+        // Only laid out again if the high score changed
+        highScoreText.setNumber("", profile.getHighScore(difficulty), 3);
+        highScoreText.draw(batch, x, y);
         // If high score was updated
-        if (easyNewHighScore) {
-            yellowText.draw(batch, "NEW",
-                difficultyEasyX + difficultyTextXCenter - offset, difficultyTextY + offset);
-        }
-        if (normalNewHighScore) {
-            yellowText.draw(batch, "NEW",
-                difficultyNormalX + difficultyTextXCenter - offset, difficultyTextY + offset);
-        }
-        if (hardNewHighScore) {
-            yellowText.draw(batch, "NEW",
-                difficultyHardX + difficultyTextXCenter - offset, difficultyTextY + offset);
+        if (profile.isNewHighScore(difficulty)) {
+            final float offset = 25f;
+            newText.draw(batch, x - offset, y + offset);
         }
     }
 
@@ -243,7 +202,7 @@ public class MainMenuScreen implements Screen {
         drawDifficultyButton(batch, difficultyEasyX, difficultyEasyMaxX,
             easyButtonActive, easyButtonInactive);
         // NORMAL
-        if (normalUnlocked) {
+        if (isUnlocked(Difficulty.NORMAL)) {
             drawDifficultyButton(batch, difficultyNormalX, difficultyNormalMaxX,
                 normalButtonActive, normalButtonInactive);
         } else {
@@ -251,7 +210,7 @@ public class MainMenuScreen implements Screen {
                 difficultyWidth, difficultyHeight);
         }
         // HARD
-        if (hardUnlocked) {
+        if (isUnlocked(Difficulty.HARD)) {
             drawDifficultyButton(batch, difficultyHardX, difficultyHardMaxX,
                 hardButtonActive, hardButtonInactive);
         } else {
@@ -265,7 +224,8 @@ public class MainMenuScreen implements Screen {
      */
     private void drawDifficultyButton(final SpriteBatch batch,
                                       final float xPosition, final float maxXPosition,
-                                      final Texture textureActive, final Texture textureInactive) {
+                                      final TextureRegion textureActive,
+                                      final TextureRegion textureInactive) {
         if (game.checkMouseOnButton(xPosition, maxXPosition,
             difficultyY, difficultyMaxY)) {
             batch.draw(textureActive, xPosition, difficultyY,
@@ -290,7 +250,7 @@ public class MainMenuScreen implements Screen {
                 game.setScreen(new GameScreen(game, Difficulty.EASY));
             }
             // Game select NORMAL
-            if (normalUnlocked) {
+            if (isUnlocked(Difficulty.NORMAL)) {
                 if (game.checkMouseOnButton(difficultyNormalX, difficultyNormalMaxX,
                     difficultyY, difficultyMaxY)) {
                     dispose();
@@ -298,7 +258,7 @@ public class MainMenuScreen implements Screen {
                 }
             }
             // Game select HARD
-            if (hardUnlocked) {
+            if (isUnlocked(Difficulty.HARD)) {
                 if (game.checkMouseOnButton(difficultyHardX, difficultyHardMaxX,
                     difficultyY, difficultyMaxY)) {
                     dispose();
@@ -319,11 +279,17 @@ public class MainMenuScreen implements Screen {
     private void inputCheats() {
         // Unlock all difficulty options
         if (Gdx.input.isKeyPressed(Input.Keys.U)) {
-            normalUnlocked = true;
-            hardUnlocked = true;
+            cheatUnlocked = true;
         }
     }
 
+    /*
+     * Returns true if the difficulty was unlocked by playing or by cheat.
+     */
+    private boolean isUnlocked(final Difficulty difficulty) {
+        return cheatUnlocked || profile.isUnlocked(difficulty);
+    }
+
 
     /**
      * Updates viewport by width and height when window is resized.
@@ -352,21 +318,11 @@ public class MainMenuScreen implements Screen {
     }
 
     /**
-     * Removes resources.
+     * Marks the new high scores as shown, as every way out of the menu disposes it.
      */
     @Override
     public void dispose() {
-        gameTitle.dispose();
-        easyButtonInactive.dispose();
-        easyButtonActive.dispose();
-        normalButtonInactive.dispose();
-        normalButtonActive.dispose();
-        normalButtonLocked.dispose();
-        hardButtonInactive.dispose();
-        hardButtonActive.dispose();
-        hardButtonLocked.dispose();
-        exitButtonInactive.dispose();
-        exitButtonActive.dispose();
-        bgm.dispose();
+        // New high scores are only shown once
+        profile.clearNewHighScores();
     }
 }
@@ -2,19 +2,14 @@ package io.github.ZombieSurvival.Screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
-import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
-import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import io.github.ZombieSurvival.Assets.AssetService;
 import io.github.ZombieSurvival.RotNRun;
+import io.github.ZombieSurvival.Save.ProfileState;
+import io.github.ZombieSurvival.Save.RunRecord;
 import io.github.ZombieSurvival.Sprites.Difficulty;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
-import java.util.Scanner;
-
 /**
  * The result screen of the game.
  *
@@ -37,24 +32,20 @@ public class ResultScreen implements Screen {
     private final float buttonMaxX = buttonX + buttonWidth;
     private final float buttonY = boxY + 4 * onePixel;
     private final float buttonMaxY = buttonY + buttonHeight;
-    // Textures
-    private final Texture boxTexture = new Texture("Result_Box.png");
-    private final Texture buttonInactiveTexture = new Texture("Menu_Button_Inactive.png");
-    private final Texture buttonActiveTexture = new Texture("Menu_Button_Active.png");
-    // Sounds
-    private final Music bgm = Gdx.audio.newMusic(Gdx.files.internal("Surrender to Shadows.wav"));
+    // Texture regions, all from the game's atlas
+    private final TextureRegion boxTexture;
+    private final TextureRegion buttonInactiveTexture;
+    private final TextureRegion buttonActiveTexture;
     // Result display values
     private final Difficulty difficulty;
     private final int score;
     // Saved values
-    private int easyHighScore = 0;
-    private boolean easyNewHighScore = false;
-    private int normalHighScore = 0;
-    private boolean normalNewHighScore = false;
-    private int hardHighScore = 0;
-    private boolean hardNewHighScore = false;
-    private boolean normalUnlocked = false;
-    private boolean hardUnlocked = false;
+    private final int previousHighScore;
+    // Text, laid out once since the result never changes
+    private final CachedText titleText;
+    private final CachedText difficultyText;
+    private final CachedText scoreText;
+    private final CachedText newHighScoreText;
 
     /**
      * Constructs a ResultScreen object with the specified instance of game.
@@ -69,25 +60,18 @@ public class ResultScreen implements Screen {
             throw new IllegalArgumentException("There is no game to the apply screen to.");
         }
         this.game = game;
+        boxTexture = game.getRegion("Result_Box");
+        buttonInactiveTexture = game.getRegion("Menu_Button_Inactive");
+        buttonActiveTexture = game.getRegion("Menu_Button_Active");
         this.difficulty = difficulty;
         this.score = score;
-        try {
-            Scanner scanner = new Scanner(RotNRun.SAVE_FILE_PATH);
-            easyHighScore = scanner.nextInt();
-            scanner.nextBoolean();
-            normalHighScore = scanner.nextInt();
-            scanner.nextBoolean();
-            hardHighScore = scanner.nextInt();
-            scanner.nextBoolean();
-            normalUnlocked = scanner.nextBoolean();
-            hardUnlocked = scanner.nextBoolean();
-            System.out.println("Easy Difficulty High Score: " + easyHighScore);
-            System.out.println("Normal Difficulty High Score: " + normalHighScore);
-            System.out.println("Hard Difficulty High Score: " + hardHighScore);
-
-        } catch (IOException error) {
-            System.out.println("Failed to read scores from save file.");
-        }
+        previousHighScore = game.getProfile().getHighScore(difficulty);
+        titleText = new CachedText(game.getBigText(), "FINAL\nSCORE");
+        difficultyText = new CachedText(game.getNormalText(),
+            String.format("DIFFICULTY: %6s", difficulty));
+        scoreText = new CachedText(game.getNormalText());
+        scoreText.setNumber("SCORE: ", score, 3);
+        newHighScoreText = new CachedText(game.getYellowText(), "NEW HIGH-SCORE!!!");
     }
 
     /**
@@ -95,7 +79,8 @@ public class ResultScreen implements Screen {
      */
     @Override
     public void show() {
-        bgm.play();
+        // Crossfades from the previous screen's track
+        game.getMusic().play(AssetService.RESULT_MUSIC);
     }
 
     /**
@@ -139,14 +124,9 @@ public class ResultScreen implements Screen {
      * Draws title text to screen.
      */
     private void drawTitleText(final SpriteBatch batch) {
-        BitmapFont bigText = game.getBigText();
-
-        GlyphLayout glyphLayout = new GlyphLayout();
-        glyphLayout.setText(bigText, "FINAL\nSCORE");
-        final float titleCenterX = (boxWidth / 2) - (glyphLayout.width / 2);
-        final float titleY = boxY + boxHeight - glyphLayout.height;
-        bigText.draw(batch, "FINAL\nSCORE",
-            boxX + titleCenterX, titleY);
+        final float titleCenterX = (boxWidth / 2) - (titleText.getWidth() / 2);
+        final float titleY = boxY + boxHeight - titleText.getHeight();
+        titleText.draw(batch, boxX + titleCenterX, titleY);
 
         drawDifficultyText(batch, titleY);
     }
@@ -155,21 +135,15 @@ public class ResultScreen implements Screen {
      * Draws difficulty text to screen.
      */
     private void drawDifficultyText(final SpriteBatch batch, final float titleY) {
-        BitmapFont normalText = game.getNormalText();
-        GlyphLayout glyphLayout = new GlyphLayout();
-        String difficultyString = String.format("DIFFICULTY: %6s", difficulty);
-        glyphLayout.setText(normalText, difficultyString);
-        final float difficultyCenterX = (boxX + boxWidth / 2) - (glyphLayout.width / 2);
-        final float difficultyY = titleY - (glyphLayout.height * 7f);
-        normalText.draw(batch, difficultyString, difficultyCenterX, difficultyY);
+        final float difficultyCenterX = (boxX + boxWidth / 2) - (difficultyText.getWidth() / 2);
+        final float difficultyY = titleY - (difficultyText.getHeight() * 7f);
+        difficultyText.draw(batch, difficultyCenterX, difficultyY);
 
-        String scoreString = String.format("SCORE: %03d", score);
-        glyphLayout.setText(normalText, scoreString);
-        final float scoreCenterX = (boxX + boxWidth / 2) - (glyphLayout.width / 2);
-        final float scoreY = difficultyY - (glyphLayout.height * 2f);
-        normalText.draw(batch, scoreString, scoreCenterX, scoreY);
+        final float scoreCenterX = (boxX + boxWidth / 2) - (scoreText.getWidth() / 2);
+        final float scoreY = difficultyY - (scoreText.getHeight() * 2f);
+        scoreText.draw(batch, scoreCenterX, scoreY);
 
-        if (score > getMatchingHighScore()) {
+        if (score > previousHighScore) {
             drawNewHighScore(batch, scoreY);
         }
     }
@@ -178,41 +152,9 @@ public class ResultScreen implements Screen {
      * Draws new high-score text to screen.
      */
     private void drawNewHighScore(final SpriteBatch batch, final float scoreY) {
-        BitmapFont yellowText = game.getYellowText();
-        GlyphLayout glyphLayout = new GlyphLayout();
-        glyphLayout.setText(yellowText, "NEW HIGH-SCORE!!!");
-        final float newCenterX = (boxX + boxWidth / 2) - (glyphLayout.width / 2);
-        final float newY = scoreY - (glyphLayout.height * 3.5f);
-        switch (difficulty) {
-            case EASY:
-                easyNewHighScore = true;
-                break;
-            case NORMAL:
-                normalNewHighScore = true;
-                break;
-            case HARD:
-                hardNewHighScore = true;
-                break;
-            default:
-                break;
-        }
-        yellowText.draw(batch, "NEW HIGH-SCORE!!!", newCenterX, newY);
-    }
-
-    /*
-     * Gets the corresponding current high score value.
-     */
-    private int getMatchingHighScore() {
-        switch (difficulty) {
-            case EASY:
-                return easyHighScore;
-            case NORMAL:
-                return normalHighScore;
-            case HARD:
-                return hardHighScore;
-            default:
-                return -1;
-        }
+        final float newCenterX = (boxX + boxWidth / 2) - (newHighScoreText.getWidth() / 2);
+        final float newY = scoreY - (newHighScoreText.getHeight() * 3.5f);
+        newHighScoreText.draw(batch, newCenterX, newY);
     }
 
     /*
@@ -232,58 +174,19 @@ public class ResultScreen implements Screen {
     }
 
     /*
-     * Writes current values into the save file.
+     * Records the run into the profile and unlocks harder difficulties.
      */
     private void writeToSave() {
-        setNewValues();
-        try {
-            List<String> scores = List.of(
-                Integer.toString(easyHighScore),
-                Boolean.toString(easyNewHighScore),
-                Integer.toString(normalHighScore),
-                Boolean.toString(normalNewHighScore),
-                Integer.toString(hardHighScore),
-                Boolean.toString(hardNewHighScore),
-                Boolean.toString(normalUnlocked),
-                Boolean.toString(hardUnlocked)
-            );
-            Files.write(RotNRun.SAVE_FILE_PATH, scores);
-        } catch (IOException error) {
-            System.out.println("Failed to write to save file.");
-        }
-    }
-
-    /*
-     * Sets any new values.
-     */
-    private void setNewValues() {
-        if (score > getMatchingHighScore()) {
-            switch (difficulty) {
-                case EASY:
-                    easyHighScore = score;
-                    break;
-                case NORMAL:
-                    normalHighScore = score;
-                    break;
-                case HARD:
-                    hardHighScore = score;
-                    break;
-                default:
-                    break;
-            }
-        }
+        final ProfileState profile = game.getProfile();
+        profile.recordRun(new RunRecord(System.currentTimeMillis(), difficulty, score, true));
 
         // Unlock values
         final int difficultyUnlockValue = 100;
-        if (!normalUnlocked) {
-            if (easyHighScore >= difficultyUnlockValue) {
-                normalUnlocked = true;
-            }
+        if (profile.getHighScore(Difficulty.EASY) >= difficultyUnlockValue) {
+            profile.unlock(Difficulty.NORMAL);
         }
-        if (!hardUnlocked) {
-            if (normalHighScore >= difficultyUnlockValue) {
-                hardUnlocked = true;
-            }
+        if (profile.getHighScore(Difficulty.NORMAL) >= difficultyUnlockValue) {
+            profile.unlock(Difficulty.HARD);
         }
     }
 
@@ -313,14 +216,8 @@ public class ResultScreen implements Screen {
 
     }
 
-    /**
-     * Removes resources.
-     */
     @Override
     public void dispose() {
-        boxTexture.dispose();
-        buttonInactiveTexture.dispose();
-        buttonActiveTexture.dispose();
-        bgm.dispose();
+
     }
 }
@@ -0,0 +1,334 @@
+package io.github.ZombieSurvival.Sprites;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Every kind of enemy and item in the game, read from JSON such as the archetypes.json
+ * resource shipped with the game. Enemies and items refer to their kind by its index here,
+ * so adding kinds only takes new entries in the file. Immutable, so the default registry
+ * is read once and shared by every run.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class ArchetypeRegistry {
+    /**
+     * Classpath location of the default archetype registry.
+     */
+    public static final String DEFAULT_RESOURCE = "/archetypes.json";
+    private static ArchetypeRegistry defaultRegistry;
+
+    private final Array<EnemyArchetype> enemies;
+    private final Array<ItemArchetype> items;
+    // Spawn weights by archetype index, and their sums
+    private final int[] enemyWeights;
+    private final int[] itemWeights;
+    private final int totalEnemyWeight;
+    private final int totalItemWeight;
+
+    /**
+     * Constructs an ArchetypeRegistry.
+     *
+     * @param enemies an Array of EnemyArchetype, copied, indexed in order
+     * @param items an Array of ItemArchetype, copied, indexed in order
+     * @throws IllegalArgumentException if enemies or items is null, a name is repeated,
+     *                                  there are more kinds than a short can index,
+     *                                  or either has no spawn weight
+     */
+    public ArchetypeRegistry(final Array<EnemyArchetype> enemies,
+                             final Array<ItemArchetype> items) {
+        if (enemies == null || items == null) {
+            throw new IllegalArgumentException("There are no enemy or item archetypes.");
+        }
+        if (enemies.size > Short.MAX_VALUE || items.size > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("There are too many archetypes.");
+        }
+        this.enemies = new Array<>(enemies);
+        this.items = new Array<>(items);
+        enemyWeights = new int[enemies.size];
+        for (int index = 0; index < enemies.size; index++) {
+            if (findEnemy(enemies.get(index).getName()) != index) {
+                throw new IllegalArgumentException("Enemy " + enemies.get(index).getName()
+                    + " is listed twice.");
+            }
+            enemyWeights[index] = enemies.get(index).getSpawnWeight();
+        }
+        itemWeights = new int[items.size];
+        for (int index = 0; index < items.size; index++) {
+            if (findItem(items.get(index).getName()) != index) {
+                throw new IllegalArgumentException("Item " + items.get(index).getName()
+                    + " is listed twice.");
+            }
+            itemWeights[index] = items.get(index).getSpawnWeight();
+        }
+        totalEnemyWeight = sum(enemyWeights);
+        totalItemWeight = sum(itemWeights);
+        if (totalEnemyWeight == 0 || totalItemWeight == 0) {
+            throw new IllegalArgumentException("Enemies and items both need a spawn weight.");
+        }
+    }
+
+    /**
+     * Reads an ArchetypeRegistry from JSON text.
+     *
+     * @param json a String
+     * @return a new ArchetypeRegistry
+     * @throws IllegalArgumentException if the JSON is malformed or a value is invalid
+     */
+    public static ArchetypeRegistry parse(final String json) {
+        try {
+            return fromJson(new JsonReader().parse(json));
+        } catch (SerializationException error) {
+            throw new IllegalArgumentException("Archetype registry is not valid JSON.", error);
+        }
+    }
+
+    /**
+     * Returns the archetype registry shipped with the game, reading it on first use.
+     *
+     * @return the default ArchetypeRegistry
+     * @throws IllegalStateException if the resource is missing or invalid
+     */
+    public static synchronized ArchetypeRegistry getDefault() {
+        if (defaultRegistry == null) {
+            try (InputStream input =
+                     ArchetypeRegistry.class.getResourceAsStream(DEFAULT_RESOURCE)) {
+                if (input == null) {
+                    throw new IllegalStateException(DEFAULT_RESOURCE + " is missing.");
+                }
+                defaultRegistry = fromJson(new JsonReader().parse(input));
+            } catch (IOException | SerializationException | IllegalArgumentException error) {
+                throw new IllegalStateException("Failed to read " + DEFAULT_RESOURCE + ".",
+                    error);
+            }
+        }
+        return defaultRegistry;
+    }
+
+    /*
+     * Reads an ArchetypeRegistry from a parsed JSON object.
+     */
+    private static ArchetypeRegistry fromJson(final JsonValue root) {
+        final Array<EnemyArchetype> enemies = new Array<>();
+        final JsonValue enemyValues = root.get("enemies");
+        if (enemyValues != null) {
+            for (final JsonValue enemy : enemyValues) {
+                enemies.add(EnemyArchetype.fromJson(enemy));
+            }
+        }
+        final Array<ItemArchetype> items = new Array<>();
+        final JsonValue itemValues = root.get("items");
+        if (itemValues != null) {
+            for (final JsonValue item : itemValues) {
+                items.add(ItemArchetype.fromJson(item));
+            }
+        }
+        return new ArchetypeRegistry(enemies, items);
+    }
+
+    /*
+     * Reads the optional difficulty multipliers of an archetype, 1 for each one left out.
+     */
+    static float[] readDifficultyScales(final JsonValue value) {
+        final float[] scales = unscaled();
+        final JsonValue scaleValues = value.get("difficulty");
+        if (scaleValues != null) {
+            for (final JsonValue scale : scaleValues) {
+                scales[Difficulty.valueOf(scale.name).ordinal()] = scale.asFloat();
+            }
+        }
+        return scales;
+    }
+
+    /*
+     * Returns a multiplier of 1 for every difficulty.
+     */
+    static float[] unscaled() {
+        final float[] scales = new float[Difficulty.values().length];
+        Arrays.fill(scales, 1f);
+        return scales;
+    }
+
+    /*
+     * Throws if there is not one multiplier per difficulty or one is negative.
+     */
+    static void checkDifficultyScales(final String name, final float[] scales) {
+        if (scales.length != Difficulty.values().length) {
+            throw new IllegalArgumentException(name + " needs a multiplier per difficulty.");
+        }
+        for (final float scale : scales) {
+            if (scale < 0) {
+                throw new IllegalArgumentException(name + " multiplier cannot be negative.");
+            }
+        }
+    }
+
+    /**
+     * Returns a registry with every stat multiplied for the difficulty.
+     * Archetypes keep their indices, so indices from this registry work in the copy.
+     *
+     * @param difficulty a Difficulty
+     * @return a new ArchetypeRegistry
+     * @throws IllegalArgumentException if difficulty is null
+     */
+    public ArchetypeRegistry forDifficulty(final Difficulty difficulty) {
+        if (difficulty == null) {
+            throw new IllegalArgumentException("Difficulty cannot be null.");
+        }
+        final Array<EnemyArchetype> scaledEnemies = new Array<>(enemies.size);
+        for (int index = 0; index < enemies.size; index++) {
+            scaledEnemies.add(enemies.get(index).scaledFor(difficulty));
+        }
+        final Array<ItemArchetype> scaledItems = new Array<>(items.size);
+        for (int index = 0; index < items.size; index++) {
+            scaledItems.add(items.get(index).scaledFor(difficulty));
+        }
+        return new ArchetypeRegistry(scaledEnemies, scaledItems);
+    }
+
+    /**
+     * Returns the index of the enemy archetype with the specified name.
+     *
+     * @param name a String
+     * @return the index as int, or -1 if there is none
+     */
+    public int findEnemy(final String name) {
+        for (int index = 0; index < enemies.size; index++) {
+            if (enemies.get(index).getName().equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+    /**
+     * Returns the index of the item archetype with the specified name.
+     *
+     * @param name a String
+     * @return the index as int, or -1 if there is none
+     */
+    public int findItem(final String name) {
+        for (int index = 0; index < items.size; index++) {
+            if (items.get(index).getName().equals(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the enemy archetype the roll lands on by spawn weight.
+     *
+     * @param roll an int from 0 up to the total enemy weight
+     * @return the index as int
+     */
+    public int rollEnemy(final int roll) {
+        return pick(enemyWeights, roll);
+    }
+    /**
+     * Returns the index of the item archetype the roll lands on by spawn weight.
+     *
+     * @param roll an int from 0 up to the total item weight
+     * @return the index as int
+     */
+    public int rollItem(final int roll) {
+        return pick(itemWeights, roll);
+    }
+
+    /*
+     * Returns the index whose share of the weights holds the roll.
+     */
+    private static int pick(final int[] weights, final int roll) {
+        int remaining = roll;
+        for (int index = 0; index < weights.length; index++) {
+            remaining -= weights[index];
+            if (remaining < 0) {
+                return index;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    /*
+     * Returns the sum of the weights.
+     */
+    private static int sum(final int[] weights) {
+        int total = 0;
+        for (final int weight : weights) {
+            total += weight;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the amount of enemy archetypes.
+     *
+     * @return an int
+     */
+    public int getEnemyCount() {
+        return enemies.size;
+    }
+    /**
+     * Returns the enemy archetype at index.
+     *
+     * @param index an int
+     * @return an EnemyArchetype
+     */
+    public EnemyArchetype getEnemy(final int index) {
+        return enemies.get(index);
+    }
+    /**
+     * Returns the sum of every enemy spawn weight.
+     *
+     * @return totalEnemyWeight as int
+     */
+    public int getTotalEnemyWeight() {
+        return totalEnemyWeight;
+    }
+    /**
+     * Returns the amount of item archetypes.
+     *
+     * @return an int
+     */
+    public int getItemCount() {
+        return items.size;
+    }
+    /**
+     * Returns the item archetype at index.
+     *
+     * @param index an int
+     * @return an ItemArchetype
+     */
+    public ItemArchetype getItem(final int index) {
+        return items.get(index);
+    }
+    /**
+     * Returns the sum of every item spawn weight.
+     *
+     * @return totalItemWeight as int
+     */
+    public int getTotalItemWeight() {
+        return totalItemWeight;
+    }
+
+    /**
+     * Returns a String representation of this ArchetypeRegistry.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("ArchetypeRegistry{");
+        builder.append("enemies=").append(enemies.size).append(", ");
+        builder.append("items=").append(items.size);
+        builder.append("}");
+        return builder.toString();
+    }
+}
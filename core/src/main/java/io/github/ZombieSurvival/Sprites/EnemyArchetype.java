@@ -0,0 +1,142 @@
+package io.github.ZombieSurvival.Sprites;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * The shared stats of one kind of enemy: how fast it moves, how hard it hits,
+ * how it is drawn and how often it spawns. Immutable, so every enemy of the kind
+ * refers to the same one instead of holding its own copy.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class EnemyArchetype {
+    private final String name;
+    private final String region;
+    private final float speed;
+    private final int attackValue;
+    private final int spawnWeight;
+    // Multiplier of speed and attack by Difficulty ordinal
+    private final float[] difficultyScales;
+
+    /**
+     * Constructs an EnemyArchetype.
+     *
+     * @param name a String
+     * @param region a String, the name of its texture region in the sprite atlas
+     * @param speed a float
+     * @param attackValue an int
+     * @param spawnWeight an int, its share of randomly picked enemies
+     * @param difficultyScales a float array of multipliers of speed and attack,
+     *                         indexed by Difficulty ordinal
+     * @throws IllegalArgumentException if name, region or difficultyScales is null, a stat or
+     *                                  scale is negative, or there is not a scale per difficulty
+     */
+    public EnemyArchetype(final String name, final String region, final float speed,
+                          final int attackValue, final int spawnWeight,
+                          final float[] difficultyScales) {
+        if (name == null || region == null || difficultyScales == null) {
+            throw new IllegalArgumentException("Enemy is missing its name, region or scales.");
+        }
+        if (speed < 0 || attackValue < 0 || spawnWeight < 0) {
+            throw new IllegalArgumentException("Enemy " + name + " stats cannot be negative.");
+        }
+        ArchetypeRegistry.checkDifficultyScales(name, difficultyScales);
+        this.name = name;
+        this.region = region;
+        this.speed = speed;
+        this.attackValue = attackValue;
+        this.spawnWeight = spawnWeight;
+        this.difficultyScales = difficultyScales.clone();
+    }
+
+    /**
+     * Reads an EnemyArchetype from a JSON object. Only name, region, speed and attack
+     * are required; a missing spawn weight never picks it at random, and a missing
+     * difficulty multiplier is 1.
+     *
+     * @param value a JsonValue object
+     * @return a new EnemyArchetype
+     * @throws IllegalArgumentException if a required field is missing or a value is invalid
+     */
+    public static EnemyArchetype fromJson(final JsonValue value) {
+        return new EnemyArchetype(value.getString("name"),
+            value.getString("region"),
+            value.getFloat("speed"),
+            value.getInt("attack"),
+            value.getInt("spawnWeight", 0),
+            ArchetypeRegistry.readDifficultyScales(value));
+    }
+
+    /**
+     * Returns a copy with speed and attack multiplied for the difficulty.
+     *
+     * @param difficulty a Difficulty
+     * @return a new EnemyArchetype whose multipliers are all 1
+     */
+    public EnemyArchetype scaledFor(final Difficulty difficulty) {
+        final float scale = difficultyScales[difficulty.ordinal()];
+        return new EnemyArchetype(name, region, speed * scale,
+            Math.round(attackValue * scale), spawnWeight,
+            ArchetypeRegistry.unscaled());
+    }
+
+    /**
+     * Returns the name of this EnemyArchetype.
+     *
+     * @return name as String
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Returns the name of the texture region drawn for this EnemyArchetype.
+     *
+     * @return region as String
+     */
+    public String getRegion() {
+        return region;
+    }
+    /**
+     * Returns the speed of this EnemyArchetype.
+     *
+     * @return speed as float
+     */
+    public float getSpeed() {
+        return speed;
+    }
+    /**
+     * Returns the attackValue of this EnemyArchetype.
+     *
+     * @return attackValue as int
+     */
+    public int getAttackValue() {
+        return attackValue;
+    }
+    /**
+     * Returns the share of randomly picked enemies that are this EnemyArchetype.
+     *
+     * @return spawnWeight as int
+     */
+    public int getSpawnWeight() {
+        return spawnWeight;
+    }
+
+    /**
+     * Returns a String representation of this EnemyArchetype.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("EnemyArchetype{");
+        builder.append("name=").append(name).append(", ");
+        builder.append("region=").append(region).append(", ");
+        builder.append("speed=").append(speed).append(", ");
+        builder.append("attackValue=").append(attackValue).append(", ");
+        builder.append("spawnWeight=").append(spawnWeight);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -0,0 +1,491 @@
+package io.github.ZombieSurvival.Sprites;
+
+import java.util.Arrays;
+
+/**
+ * Stores every enemy in parallel primitive arrays instead of one Sprite object per enemy.
+ * Enemies are addressed by index. Killed enemies are marked dead and dropped together by
+ * {@link #removeDead()}, so indices stay valid for the rest of the tick.
+ * Freed slots are reused by later spawns, so the arrays act as the enemy pool.
+ * Each enemy only stores its position state and the index of its EnemyArchetype;
+ * its stats are read from tables built once from the ArchetypeRegistry.
+ * Every enemy also gets a spawn id, counting up from 0, so gameplay can pick between enemies
+ * by when they spawned instead of by their index, which sorting changes.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class EnemyStore implements PoolMetrics {
+    // Stats by archetype index
+    private final float[] archetypeSpeeds;
+    private final int[] archetypeAttackValues;
+    private float[] x;
+    private float[] y;
+    private float[] previousX;
+    private float[] previousY;
+    private short[] archetype;
+    private int[] spawnIds;
+    private boolean[] flipX;
+    private boolean[] dead;
+    private int size;
+    private int nextSpawnId;
+    private int deadCount;
+    private boolean unsorted;
+    private long hits;
+    private long misses;
+    private int highWater;
+    private float maxSpeed;
+
+    /**
+     * Constructs an empty EnemyStore of the archetypes with the specified starting capacity.
+     *
+     * @param archetypes an ArchetypeRegistry, already scaled for the run's difficulty
+     * @param capacity an int
+     * @throws IllegalArgumentException if archetypes is null or capacity is a negative integer
+     */
+    public EnemyStore(final ArchetypeRegistry archetypes, final int capacity) {
+        if (archetypes == null) {
+            throw new IllegalArgumentException("There are no archetypes.");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        archetypeSpeeds = new float[archetypes.getEnemyCount()];
+        archetypeAttackValues = new int[archetypes.getEnemyCount()];
+        for (int index = 0; index < archetypes.getEnemyCount(); index++) {
+            archetypeSpeeds[index] = archetypes.getEnemy(index).getSpeed();
+            archetypeAttackValues[index] = archetypes.getEnemy(index).getAttackValue();
+        }
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        archetype = new short[capacity];
+        spawnIds = new int[capacity];
+        flipX = new boolean[capacity];
+        dead = new boolean[capacity];
+        size = 0;
+        nextSpawnId = 0;
+        deadCount = 0;
+        unsorted = false;
+        hits = 0;
+        misses = 0;
+        highWater = 0;
+        maxSpeed = 0;
+    }
+
+    /**
+     * Adds an enemy of the specified archetype at the specified position.
+     *
+     * @param xPosition a float
+     * @param yPosition a float
+     * @param enemyArchetype an int, the index of its EnemyArchetype
+     * @return the index of the new enemy
+     * @throws IllegalArgumentException if enemyArchetype is not an archetype index
+     */
+    public int add(final float xPosition, final float yPosition, final int enemyArchetype) {
+        if (enemyArchetype < 0 || enemyArchetype >= archetypeSpeeds.length) {
+            throw new IllegalArgumentException("Enemy archetype " + enemyArchetype
+                + " does not exist.");
+        }
+        if (size == x.length) {
+            grow();
+        }
+        // Only a slot an earlier enemy held is reused
+        if (size < highWater) {
+            hits++;
+        } else {
+            misses++;
+        }
+        highWater = Math.max(highWater, size + 1);
+        maxSpeed = Math.max(maxSpeed, archetypeSpeeds[enemyArchetype]);
+        x[size] = xPosition;
+        y[size] = yPosition;
+        previousX[size] = xPosition;
+        previousY[size] = yPosition;
+        archetype[size] = (short) enemyArchetype;
+        spawnIds[size] = nextSpawnId++;
+        flipX[size] = false;
+        dead[size] = false;
+        unsorted = true;
+        return size++;
+    }
+
+    /**
+     * Marks the enemy at index for removal. It stays in place until removeDead is called.
+     *
+     * @param index an int
+     * @throws IndexOutOfBoundsException if index is not a stored enemy
+     */
+    public void markDead(final int index) {
+        checkIndex(index);
+        if (!dead[index]) {
+            dead[index] = true;
+            deadCount++;
+        }
+    }
+
+    /**
+     * Returns true if the enemy at index is waiting to be removed.
+     *
+     * @param index an int
+     * @return dead as boolean
+     */
+    public boolean isDead(final int index) {
+        return dead[index];
+    }
+
+    /**
+     * Drops every enemy marked dead in one pass, keeping the order of the rest.
+     *
+     * @return the amount of enemies dropped
+     */
+    public int removeDead() {
+        if (deadCount == 0) {
+            return 0;
+        }
+        int kept = 0;
+        for (int index = 0; index < size; index++) {
+            if (dead[index]) {
+                dead[index] = false;
+            } else {
+                if (kept != index) {
+                    copy(index, kept);
+                }
+                kept++;
+            }
+        }
+        final int removed = size - kept;
+        size = kept;
+        deadCount = 0;
+        return removed;
+    }
+
+    /**
+     * Removes the enemy at index straight away by moving the last enemy into its slot.
+     *
+     * @param index an int
+     * @throws IndexOutOfBoundsException if index is not a stored enemy
+     */
+    public void removeIndex(final int index) {
+        checkIndex(index);
+        if (dead[index]) {
+            deadCount--;
+        }
+        final int last = --size;
+        x[index] = x[last];
+        y[index] = y[last];
+        previousX[index] = previousX[last];
+        previousY[index] = previousY[last];
+        archetype[index] = archetype[last];
+        spawnIds[index] = spawnIds[last];
+        flipX[index] = flipX[last];
+        dead[index] = dead[last];
+        dead[last] = false;
+        if (index != last) {
+            unsorted = true;
+        }
+    }
+
+    /**
+     * Remembers the current position of every enemy, so drawing can interpolate towards the next.
+     */
+    public void savePreviousPositions() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Removes every enemy.
+     */
+    public void clear() {
+        Arrays.fill(dead, 0, size, false);
+        size = 0;
+        deadCount = 0;
+    }
+
+    /**
+     * Sorts the enemies from the highest to the lowest Y coordinate, to draw them back to front.
+     * Only sorts if enemies were marked unsorted, added or removed since the last sort.
+     * Uses an insertion sort, which is close to linear since enemies barely move between ticks.
+     */
+    public void sortByDepth() {
+        if (!unsorted) {
+            return;
+        }
+        for (int index = 1; index < size; index++) {
+            int current = index;
+            while (current > 0 && y[current - 1] < y[current]) {
+                swap(current - 1, current);
+                current--;
+            }
+        }
+        unsorted = false;
+    }
+
+    /**
+     * Returns the amount of stored enemies, including ones marked dead.
+     *
+     * @return size as int
+     */
+    public int getSize() {
+        return size;
+    }
+    /**
+     * Returns the X coordinate of the enemy at index.
+     *
+     * @param index an int
+     * @return x as float
+     */
+    public float getX(final int index) {
+        return x[index];
+    }
+    /**
+     * Returns the Y coordinate of the enemy at index.
+     *
+     * @param index an int
+     * @return y as float
+     */
+    public float getY(final int index) {
+        return y[index];
+    }
+    /**
+     * Returns the X coordinate of the enemy at index when previous positions were last saved.
+     *
+     * @param index an int
+     * @return the previous x as float
+     */
+    public float getPreviousX(final int index) {
+        return previousX[index];
+    }
+    /**
+     * Returns the Y coordinate of the enemy at index when previous positions were last saved.
+     *
+     * @param index an int
+     * @return the previous y as float
+     */
+    public float getPreviousY(final int index) {
+        return previousY[index];
+    }
+    /**
+     * Returns the X coordinate of the enemy at index, interpolated from its previous position.
+     *
+     * @param index an int
+     * @param alpha a float from 0 for the previous position to 1 for the current position
+     * @return the interpolated x as float
+     */
+    public float getInterpolatedX(final int index, final float alpha) {
+        return previousX[index] + (x[index] - previousX[index]) * alpha;
+    }
+    /**
+     * Returns the Y coordinate of the enemy at index, interpolated from its previous position.
+     *
+     * @param index an int
+     * @param alpha a float from 0 for the previous position to 1 for the current position
+     * @return the interpolated y as float
+     */
+    public float getInterpolatedY(final int index, final float alpha) {
+        return previousY[index] + (y[index] - previousY[index]) * alpha;
+    }
+    /**
+     * Marks the enemies as out of drawing order, so the next sortByDepth sorts them.
+     * Called once after moving enemies, rather than by every translate.
+     */
+    public void markUnsorted() {
+        unsorted = true;
+    }
+
+    /**
+     * Moves the enemy at index by the specified amount. Only writes to that enemy, so
+     * disjoint ranges can be moved on several threads at once; call markUnsorted afterwards.
+     *
+     * @param index an int
+     * @param amountX a float
+     * @param amountY a float
+     */
+    public void translate(final int index, final float amountX, final float amountY) {
+        x[index] += amountX;
+        y[index] += amountY;
+    }
+    /**
+     * Returns the speed of the enemy at index.
+     *
+     * @param index an int
+     * @return speed as float
+     */
+    public float getSpeed(final int index) {
+        return archetypeSpeeds[archetype[index]];
+    }
+    /**
+     * Returns the highest speed of any enemy added, bounding how far an enemy moves in a tick.
+     *
+     * @return maxSpeed as float
+     */
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+    /**
+     * Returns the attackValue of the enemy at index.
+     *
+     * @param index an int
+     * @return attackValue as int
+     */
+    public int getAttackValue(final int index) {
+        return archetypeAttackValues[archetype[index]];
+    }
+    /**
+     * Returns the index of the EnemyArchetype of the enemy at index.
+     *
+     * @param index an int
+     * @return archetype as int
+     */
+    public int getArchetype(final int index) {
+        return archetype[index];
+    }
+    /**
+     * Returns the spawn id of the enemy at index. Enemies spawned earlier have lower ids.
+     *
+     * @param index an int
+     * @return spawnId as int
+     */
+    public int getSpawnId(final int index) {
+        return spawnIds[index];
+    }
+    /**
+     * Returns true if the enemy at index is facing right.
+     *
+     * @param index an int
+     * @return flipX as boolean
+     */
+    public boolean isFlipX(final int index) {
+        return flipX[index];
+    }
+    /**
+     * Sets whether the enemy at index is facing right.
+     *
+     * @param index an int
+     * @param flip a boolean
+     */
+    public void setFlipX(final int index, final boolean flip) {
+        flipX[index] = flip;
+    }
+    /**
+     * Returns the amount of enemies added into a slot a removed enemy held before.
+     *
+     * @return hits as long
+     */
+    @Override
+    public long getHits() {
+        return hits;
+    }
+    /**
+     * Returns the amount of enemies added into a slot no enemy held before.
+     *
+     * @return misses as long
+     */
+    @Override
+    public long getMisses() {
+        return misses;
+    }
+    /**
+     * Returns the most enemies that were stored at the same time.
+     *
+     * @return highWater as int
+     */
+    @Override
+    public int getHighWater() {
+        return highWater;
+    }
+    /**
+     * Decreases the Player's HP by the attackValue of the enemy at index.
+     *
+     * @param index an int
+     * @param player a Player
+     */
+    public void attackPlayer(final int index, final Player player) {
+        player.modifyCurrentHP(-archetypeAttackValues[archetype[index]]);
+    }
+
+    /*
+     * Doubles the capacity of every array.
+     */
+    private void grow() {
+        final int newCapacity = Math.max(8, x.length * 2);
+        x = Arrays.copyOf(x, newCapacity);
+        y = Arrays.copyOf(y, newCapacity);
+        previousX = Arrays.copyOf(previousX, newCapacity);
+        previousY = Arrays.copyOf(previousY, newCapacity);
+        archetype = Arrays.copyOf(archetype, newCapacity);
+        spawnIds = Arrays.copyOf(spawnIds, newCapacity);
+        flipX = Arrays.copyOf(flipX, newCapacity);
+        dead = Arrays.copyOf(dead, newCapacity);
+    }
+
+    /*
+     * Copies the live enemy at source into the slot at target.
+     */
+    private void copy(final int source, final int target) {
+        x[target] = x[source];
+        y[target] = y[source];
+        previousX[target] = previousX[source];
+        previousY[target] = previousY[source];
+        archetype[target] = archetype[source];
+        spawnIds[target] = spawnIds[source];
+        flipX[target] = flipX[source];
+        dead[target] = false;
+    }
+
+    /*
+     * Swaps the enemies at the two indices.
+     */
+    private void swap(final int first, final int second) {
+        final float tempX = x[first];
+        x[first] = x[second];
+        x[second] = tempX;
+        final float tempY = y[first];
+        y[first] = y[second];
+        y[second] = tempY;
+        final float tempPreviousX = previousX[first];
+        previousX[first] = previousX[second];
+        previousX[second] = tempPreviousX;
+        final float tempPreviousY = previousY[first];
+        previousY[first] = previousY[second];
+        previousY[second] = tempPreviousY;
+        final short tempArchetype = archetype[first];
+        archetype[first] = archetype[second];
+        archetype[second] = tempArchetype;
+        final int tempSpawnId = spawnIds[first];
+        spawnIds[first] = spawnIds[second];
+        spawnIds[second] = tempSpawnId;
+        final boolean tempFlip = flipX[first];
+        flipX[first] = flipX[second];
+        flipX[second] = tempFlip;
+        final boolean tempDead = dead[first];
+        dead[first] = dead[second];
+        dead[second] = tempDead;
+    }
+
+    /*
+     * Throws if index is not a stored enemy.
+     */
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Enemy index " + index + " out of bounds.");
+        }
+    }
+
+    /**
+     * Returns a String representation of this EnemyStore.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("EnemyStore{");
+        builder.append("size=").append(size).append(", ");
+        builder.append("capacity=").append(x.length);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -1,6 +1,5 @@
 package io.github.ZombieSurvival.Sprites;
 
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 
 /**
@@ -11,24 +10,23 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
  */
 public abstract class Entity extends Sprite implements Comparable<Entity> {
     /**
-     * Constructs an Entity object with the specified texture.
-     *
-     * @param texture a Texture
+     * Constructs an Entity object without a texture.
+     * Entities only hold gameplay state; the screen drawing them supplies the texture.
      */
-    public Entity(final Texture texture) {
-        super(texture);
+    public Entity() {
+        super();
     }
 
     /**
      * Compares this entity to another entity based on their Y coordinate.
+     * Entities further up the screen come first so they are drawn behind.
      *
-     * @param other the student to compare to
-     * @return a negative integer, zero, or a positive integer as this student
-     *         is less than, equal to, or greater than the specified student
+     * @param other the entity to compare to
+     * @return a negative integer, zero, or a positive integer as this entity
+     *         is above, level with, or below the specified entity
      */
     @Override
     public int compareTo(final Entity other) {
-        final int amplifier = 1000;
-        return (int) ((other.getY() - this.getY()) * amplifier);
+        return Float.compare(other.getY(), this.getY());
     }
 }
@@ -1,9 +1,8 @@
 package io.github.ZombieSurvival.Sprites;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * Generates entities with preset status values.
+ * The player's come from the difficulty; enemies take theirs from archetypes.
  *
  * @author Kanon Nishiyama
  * @version 2025
@@ -15,12 +14,11 @@ public final class Generate {
     /**
      * Creates a Player with stats based on the selected difficulty.
      *
-     * @param texture a Texture
      * @param difficulty as Difficulty
      * @return the created Player object
      * @throws IllegalArgumentException if difficulty is null or an unexpected option
      */
-    public static Player createPlayer(final Texture texture, final Difficulty difficulty) {
+    public static Player createPlayer(final Difficulty difficulty) {
         // Easy
         final int easyHP = 5;
         final int easyStamina = 200;
@@ -36,148 +34,28 @@ public final class Generate {
         // Create Player
         switch (difficulty) {
             case EASY:
-                return new Player(texture, easyHP, easyStamina, easyCharge);
+                return new Player(easyHP, easyStamina, easyCharge);
             case NORMAL:
-                return new Player(texture, normalHP, normalStamina, normalCharge);
+                return new Player(normalHP, normalStamina, normalCharge);
             case HARD:
-                return new Player(texture, hardHP, hardStamina, hardCharge);
+                return new Player(hardHP, hardStamina, hardCharge);
             default:
                 throw new IllegalArgumentException("Invalid difficulty value.");
         }
     }
     // Enemies
     /**
-     * Creates a Broken Zombie Enemy.
-     * Slower speed.
-     * Hits harder.
-     *
-     * @param texture a Texture
-     * @return the created Enemy object
-     */
-    public static Enemy createBrokenZombie(final Texture texture) {
-        final int attackValue = 2;
-        final float speed = 30f;
-
-        return new Enemy(texture, attackValue, speed);
-    }
-    /**
-     * Creates a Standard Zombie Enemy.
-     * Basic speed.
-     * Basic attack.
-     *
-     * @param texture a Texture
-     * @return the created Enemy object
-     */
-    public static Enemy createStandardZombie(final Texture texture) {
-        final int attackValue = 1;
-        final float speed = 100f;
-
-        return new Enemy(texture, attackValue, speed);
-    }
-    /**
-     * Creates a Dog Zombie Enemy.
-     * Faster speed.
-     * Basic attack.
-     *
-     * @param texture a Texture
-     * @return the created Enemy object
-     */
-    public static Enemy createDogZombie(final Texture texture) {
-        final int attackValue = 1;
-        final float speed = 200f;
-
-        return new Enemy(texture, attackValue, speed);
-    }
-    // Items
-    // HP
-    /**
-     * Creates a Bandage Item. A minor healing item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createBandage(final Texture texture) {
-        final int increaseValue = 1;
-
-        return new Item(texture, increaseValue, ItemType.HP);
-    }
-    /**
-     * Creates a Med Kit Item. A major healing item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createMedKit(final Texture texture) {
-        final int increaseValue = 3;
-
-        return new Item(texture, increaseValue, ItemType.HP);
-    }
-    // Stamina
-    /**
-     * Creates a Water Bottle Item. A minor stamina item.
+     * Adds an Enemy of the specified archetype to enemies at the specified position.
      *
-     * @param texture a Texture
-     * @return the created Item object
+     * @param enemies an EnemyStore
+     * @param archetype an int, the index of its EnemyArchetype
+     * @param x a float
+     * @param y a float
+     * @return the index of the created enemy
+     * @throws IllegalArgumentException if archetype is not an archetype index
      */
-    public static Item createWaterBottle(final Texture texture) {
-        final int increaseValue = 5;
-
-        return new Item(texture, increaseValue, ItemType.STAMINA);
-    }
-    /**
-     * Creates a Apple Item. A medium stamina item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createApple(final Texture texture) {
-        final int increaseValue = 15;
-
-        return new Item(texture, increaseValue, ItemType.STAMINA);
-    }
-    /**
-     * Creates a Sandwich Item. A major stamina item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createSandwich(final Texture texture) {
-        final int increaseValue = 25;
-
-        return new Item(texture, increaseValue, ItemType.STAMINA);
-    }
-    // Score
-    /**
-     * Creates a Nails Item. A minor score item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createNails(final Texture texture) {
-        final int increaseValue = 1;
-
-        return new Item(texture, increaseValue, ItemType.SCORE);
-    }
-    /**
-     * Creates a Wooden Plank Item. A medium score item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createWoodenPlank(final Texture texture) {
-        final int increaseValue = 3;
-
-        return new Item(texture, increaseValue, ItemType.SCORE);
-    }
-    /**
-     * Creates a Metal Sheet Item. A major score item.
-     *
-     * @param texture a Texture
-     * @return the created Item object
-     */
-    public static Item createMetalSheet(final Texture texture) {
-        final int increaseValue = 5;
-
-        return new Item(texture, increaseValue, ItemType.SCORE);
+    public static int createEnemy(final EnemyStore enemies, final int archetype,
+                                  final float x, final float y) {
+        return enemies.add(x, y, archetype);
     }
 }
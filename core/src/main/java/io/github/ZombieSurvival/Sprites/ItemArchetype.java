@@ -0,0 +1,142 @@
+package io.github.ZombieSurvival.Sprites;
+
+import com.badlogic.gdx.utils.JsonValue;
+
+/**
+ * The shared stats of one kind of item: which player stat it raises and by how much,
+ * how it is drawn and how often it spawns. Immutable, so every item of the kind
+ * refers to the same one instead of holding its own copy.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class ItemArchetype {
+    private final String name;
+    private final String region;
+    private final ItemType itemType;
+    private final int increaseValue;
+    private final int spawnWeight;
+    // Multiplier of increaseValue by Difficulty ordinal
+    private final float[] difficultyScales;
+
+    /**
+     * Constructs an ItemArchetype.
+     *
+     * @param name a String
+     * @param region a String, the name of its texture region in the sprite atlas
+     * @param itemType an ItemType
+     * @param increaseValue an int
+     * @param spawnWeight an int, its share of spawned items
+     * @param difficultyScales a float array of multipliers of increaseValue,
+     *                         indexed by Difficulty ordinal
+     * @throws IllegalArgumentException if name, region, itemType or difficultyScales is null,
+     *                                  a value or scale is negative, or there is not a scale
+     *                                  per difficulty
+     */
+    public ItemArchetype(final String name, final String region, final ItemType itemType,
+                         final int increaseValue, final int spawnWeight,
+                         final float[] difficultyScales) {
+        if (name == null || region == null || itemType == null || difficultyScales == null) {
+            throw new IllegalArgumentException("Item is missing its name, region, type or scales.");
+        }
+        if (increaseValue < 0 || spawnWeight < 0) {
+            throw new IllegalArgumentException("Item " + name + " values cannot be negative.");
+        }
+        ArchetypeRegistry.checkDifficultyScales(name, difficultyScales);
+        this.name = name;
+        this.region = region;
+        this.itemType = itemType;
+        this.increaseValue = increaseValue;
+        this.spawnWeight = spawnWeight;
+        this.difficultyScales = difficultyScales.clone();
+    }
+
+    /**
+     * Reads an ItemArchetype from a JSON object. Only name, region, type and value
+     * are required; a missing spawn weight never spawns it, and a missing
+     * difficulty multiplier is 1.
+     *
+     * @param value a JsonValue object
+     * @return a new ItemArchetype
+     * @throws IllegalArgumentException if a required field is missing or a value is invalid
+     */
+    public static ItemArchetype fromJson(final JsonValue value) {
+        return new ItemArchetype(value.getString("name"),
+            value.getString("region"),
+            ItemType.valueOf(value.getString("type")),
+            value.getInt("value"),
+            value.getInt("spawnWeight", 0),
+            ArchetypeRegistry.readDifficultyScales(value));
+    }
+
+    /**
+     * Returns a copy with increaseValue multiplied for the difficulty.
+     *
+     * @param difficulty a Difficulty
+     * @return a new ItemArchetype whose multipliers are all 1
+     */
+    public ItemArchetype scaledFor(final Difficulty difficulty) {
+        final float scale = difficultyScales[difficulty.ordinal()];
+        return new ItemArchetype(name, region, itemType,
+            Math.round(increaseValue * scale), spawnWeight, ArchetypeRegistry.unscaled());
+    }
+
+    /**
+     * Returns the name of this ItemArchetype.
+     *
+     * @return name as String
+     */
+    public String getName() {
+        return name;
+    }
+    /**
+     * Returns the name of the texture region drawn for this ItemArchetype.
+     *
+     * @return region as String
+     */
+    public String getRegion() {
+        return region;
+    }
+    /**
+     * Returns the itemType of this ItemArchetype.
+     *
+     * @return itemType as ItemType
+     */
+    public ItemType getItemType() {
+        return itemType;
+    }
+    /**
+     * Returns the increaseValue of this ItemArchetype.
+     *
+     * @return increaseValue as int
+     */
+    public int getIncreaseValue() {
+        return increaseValue;
+    }
+    /**
+     * Returns the share of spawned items that are this ItemArchetype.
+     *
+     * @return spawnWeight as int
+     */
+    public int getSpawnWeight() {
+        return spawnWeight;
+    }
+
+    /**
+     * Returns a String representation of this ItemArchetype.
+     *
+     * @return a String
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder;
+        builder = new StringBuilder("ItemArchetype{");
+        builder.append("name=").append(name).append(", ");
+        builder.append("region=").append(region).append(", ");
+        builder.append("itemType=").append(itemType).append(", ");
+        builder.append("increaseValue=").append(increaseValue).append(", ");
+        builder.append("spawnWeight=").append(spawnWeight);
+        builder.append("}");
+        return builder.toString();
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.ZombieSurvival.Sprites;
 
-import com.badlogic.gdx.graphics.Texture;
-
 /**
  * The character the player controls.
  *
@@ -25,7 +23,6 @@ public class Player extends Entity {
     /**
      * Constructs a Player object with a specified maxHP, maxStamina, and maxCharge.
      *
-     * @param texture a Texture
      * @param maxHP an int
      * @param maxStamina an int
      * @param maxCharge an int
@@ -33,10 +30,9 @@ public class Player extends Entity {
      * @throws IllegalArgumentException if maxStamina is smaller or equal to 0
      * @throws IllegalArgumentException if maxCharge is smaller or equal to 0
      */
-    public Player(final Texture texture,
-                  final int maxHP, final int maxStamina, final int maxCharge) {
+    public Player(final int maxHP, final int maxStamina, final int maxCharge) {
         // Sprite
-        super(texture);
+        super();
         // Set HP max value
         if (maxHP <= 0) {
             throw new IllegalArgumentException("maxHP must be a larger then 0.");
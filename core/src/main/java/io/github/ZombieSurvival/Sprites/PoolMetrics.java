@@ -0,0 +1,30 @@
+package io.github.ZombieSurvival.Sprites;
+
+/**
+ * Reuse statistics of a store that recycles entities instead of allocating new ones.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public interface PoolMetrics {
+    /**
+     * Returns the amount of entities handed out by reusing a free one.
+     *
+     * @return hits as long
+     */
+    long getHits();
+
+    /**
+     * Returns the amount of entities handed out that needed new memory.
+     *
+     * @return misses as long
+     */
+    long getMisses();
+
+    /**
+     * Returns the most entities that were in use at the same time.
+     *
+     * @return highWater as int
+     */
+    int getHighWater();
+}
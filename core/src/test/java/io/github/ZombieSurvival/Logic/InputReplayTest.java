@@ -0,0 +1,159 @@
+package io.github.ZombieSurvival.Logic;
+
+import io.github.ZombieSurvival.Sprites.ArchetypeRegistry;
+import io.github.ZombieSurvival.Sprites.Difficulty;
+import io.github.ZombieSurvival.Sprites.Player;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Records runs the way the game screen does and checks that replaying their input logs
+ * reaches the same final state.
+ *
+ * @author Kanon Nishiyama
+ * @version 2025
+ */
+public class InputReplayTest {
+    private static final int RUNS = 100;
+    // Longest frame recorded, so some frames run several ticks and some none
+    private static final float MAX_FRAME_LENGTH = 0.05f;
+
+    /**
+     * Holds the input log files written by the tests.
+     */
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Checks that fast-forwarding a run's input log ends in the state the run ended in,
+     * although the recorded run was drawn after every frame and the replay never is.
+     */
+    @Test
+    public void fastForwardReachesRecordedState() {
+        for (int run = 0; run < RUNS; run++) {
+            final Difficulty difficulty = Difficulty.values()[run % Difficulty.values().length];
+            final GameSimulation recorded = new GameSimulation(difficulty, run);
+            final InputLog log = record(recorded, run, true);
+            assertSameState("Run " + run, recorded, InputReplay.fastForward(log));
+        }
+    }
+
+    /**
+     * Checks that a run drawn after every frame plays out like the same run never drawn.
+     */
+    @Test
+    public void drawingDoesNotChangeRun() {
+        for (int run = 0; run < RUNS; run++) {
+            final Difficulty difficulty = Difficulty.values()[run % Difficulty.values().length];
+            final GameSimulation drawn = new GameSimulation(difficulty, run);
+            final GameSimulation undrawn = new GameSimulation(difficulty, run);
+            record(drawn, run, true);
+            record(undrawn, run, false);
+            assertSameState("Run " + run, drawn, undrawn);
+        }
+    }
+
+    /**
+     * Checks that a run's input log replays the same after being written and read back.
+     *
+     * @throws IOException if the log cannot be written or read
+     */
+    @Test
+    public void writtenLogReachesRecordedState() throws IOException {
+        final GameSimulation recorded = new GameSimulation(Difficulty.HARD, 2522);
+        final InputLog log = record(recorded, 2522, true);
+        final Path path = folder.getRoot().toPath().resolve("LastRun.bin");
+        log.write(path);
+        final InputLog read = InputLog.read(path);
+        assertEquals(log.getTickCount(), read.getTickCount());
+        assertSameState("Written run", recorded, InputReplay.fastForward(read));
+    }
+
+    /**
+     * Checks that of two enemies touching the player, the one spawned first hits it,
+     * although sorting by depth moved the other to the lower index.
+     */
+    @Test
+    public void earliestSpawnedEnemyHits() {
+        final GameSimulation simulation = new GameSimulation(Difficulty.HARD, 2522);
+        final ArchetypeRegistry archetypes = simulation.getArchetypes();
+        int weakest = 0;
+        int strongest = 0;
+        for (int index = 0; index < archetypes.getEnemyCount(); index++) {
+            final int attack = archetypes.getEnemy(index).getAttackValue();
+            if (attack < archetypes.getEnemy(weakest).getAttackValue()) {
+                weakest = index;
+            }
+            if (attack > archetypes.getEnemy(strongest).getAttackValue()) {
+                strongest = index;
+            }
+        }
+        final Player player = simulation.getPlayer();
+        final int startHP = player.getCurrentHP();
+        // The stronger enemy stands higher, so it is sorted in front of the weaker one
+        simulation.spawnEnemy(weakest, player.getX(), player.getY());
+        simulation.spawnEnemy(strongest, player.getX(), player.getY() + 1f);
+        simulation.sortByDepth();
+        assertEquals(1, simulation.getEnemies().getSpawnId(0));
+        simulation.logicEnemyHitBox();
+        assertEquals(startHP - archetypes.getEnemy(weakest).getAttackValue(),
+            player.getCurrentHP());
+    }
+
+    /*
+     * Plays the simulation to the end on frames of random length with random input, both
+     * rolled from the seed, capturing a snapshot after every frame if drawn.
+     * The player mostly stands still, so the horde reaches it and several enemies hit at once.
+     * Returns the input log recorded along the way.
+     */
+    private static InputLog record(final GameSimulation simulation, final long seed,
+                                   final boolean drawn) {
+        final InputLog log = new InputLog(simulation.getDifficulty(), simulation.getSeed());
+        final InputCommand input = new InputCommand();
+        final SimulationSnapshot snapshot = new SimulationSnapshot();
+        final Random random = new Random(seed);
+        while (!simulation.isFinished()) {
+            if (random.nextInt(60) == 0) {
+                input.setKeys(random.nextInt(8) == 0 ? random.nextInt(1 << 5) : 0);
+            }
+            if (random.nextInt(300) == 0) {
+                input.setTouch(random.nextFloat() * 2000f, random.nextFloat() * 1500f);
+            } else if (random.nextInt(10) == 0) {
+                input.clearTouch();
+            }
+            final float delta = random.nextFloat() * MAX_FRAME_LENGTH;
+            log.record(input, simulation.advance(delta, input));
+            if (drawn) {
+                snapshot.capture(simulation, false, 0);
+            }
+        }
+        return log;
+    }
+
+    /*
+     * Fails if the two simulations did not end in the same state.
+     */
+    private static void assertSameState(final String run, final GameSimulation expected,
+                                        final GameSimulation actual) {
+        final Player expectedPlayer = expected.getPlayer();
+        final Player actualPlayer = actual.getPlayer();
+        assertEquals(run + " ticks", expected.getTickCount(), actual.getTickCount());
+        assertEquals(run + " HP", expectedPlayer.getCurrentHP(), actualPlayer.getCurrentHP());
+        assertEquals(run + " stamina", expectedPlayer.getCurrentStamina(),
+            actualPlayer.getCurrentStamina());
+        assertEquals(run + " score", expectedPlayer.getCurrentScore(),
+            actualPlayer.getCurrentScore());
+        assertEquals(run + " x", expectedPlayer.getX(), actualPlayer.getX(), 0f);
+        assertEquals(run + " y", expectedPlayer.getY(), actualPlayer.getY(), 0f);
+        assertEquals(run + " enemies", expected.getEnemies().getSize(),
+            actual.getEnemies().getSize());
+        assertEquals(run + " items", expected.getItems().getSize(), actual.getItems().getSize());
+    }
+}
@@ -2,17 +2,83 @@ package io.github.ZombieSurvival.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.ZombieSurvival.Logic.GameSimulation;
+import io.github.ZombieSurvival.Logic.InputLog;
+import io.github.ZombieSurvival.Logic.InputReplay;
 import io.github.ZombieSurvival.RotNRun;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
-    public static void main(String[] args) {
-        if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
-        createApplication();
+    /** Prefix of the argument that fixes the seed of every run, e.g. --seed=2522. */
+    private static final String SEED_ARGUMENT = "--seed=";
+    /** Prefix of the argument that replays an input log, e.g. --replay=LastRun.bin. */
+    private static final String REPLAY_ARGUMENT = "--replay=";
+    /** Runs the replay without a window, as fast as possible, and prints the result. */
+    private static final String FAST_FORWARD_ARGUMENT = "--fast-forward";
+
+    public static void main(String[] args) throws IOException {
+        if (hasArgument(args, FAST_FORWARD_ARGUMENT)) {
+            fastForward(args);
+            return;
+        }
+        if (StartupHelper.startNewJvmIfRequired(args)) return; // This handles macOS support and helps on Windows.
+        createApplication(args);
+    }
+
+    /** Replays the input log headless, needing no window or GL context. */
+    private static void fastForward(String[] args) throws IOException {
+        final String replayPath = getArgument(args, REPLAY_ARGUMENT);
+        if (replayPath == null) {
+            throw new IllegalArgumentException(FAST_FORWARD_ARGUMENT + " needs " + REPLAY_ARGUMENT);
+        }
+        final InputLog log = InputLog.read(Path.of(replayPath));
+        final long start = System.nanoTime();
+        final GameSimulation simulation = InputReplay.fastForward(log);
+        final long elapsed = System.nanoTime() - start;
+        System.out.println("Replayed " + log + " in " + elapsed / 1_000_000 + " ms: " + simulation);
+        System.out.println("Score " + simulation.getPlayer().getCurrentScore()
+            + ", HP " + simulation.getPlayer().getCurrentHP()
+            + ", stamina " + simulation.getPlayer().getCurrentStamina());
+    }
+
+    private static Lwjgl3Application createApplication(String[] args) throws IOException {
+        return new Lwjgl3Application(createGame(args), getDefaultConfiguration());
+    }
+
+    /** Creates the game, replaying or seeded if asked so its runs can be reproduced. */
+    private static RotNRun createGame(String[] args) throws IOException {
+        final String replayPath = getArgument(args, REPLAY_ARGUMENT);
+        if (replayPath != null) {
+            return new RotNRun(InputLog.read(Path.of(replayPath)));
+        }
+        final String seed = getArgument(args, SEED_ARGUMENT);
+        if (seed != null) {
+            return new RotNRun(Long.parseLong(seed));
+        }
+        return new RotNRun();
+    }
+
+    /** Returns the value of the argument starting with prefix, or null if not passed. */
+    private static String getArgument(String[] args, String prefix) {
+        for (String argument : args) {
+            if (argument.startsWith(prefix)) {
+                return argument.substring(prefix.length());
+            }
+        }
+        return null;
     }
 
-    private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new RotNRun(), getDefaultConfiguration());
+    /** Returns true if the flag was passed. */
+    private static boolean hasArgument(String[] args, String flag) {
+        for (String argument : args) {
+            if (argument.equals(flag)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {
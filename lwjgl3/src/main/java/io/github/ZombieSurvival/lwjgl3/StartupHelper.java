@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.InputStreamReader;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.Collections;
 
 /**
  * Adds some utilities to ensure that the JVM was started with the
@@ -53,11 +54,13 @@ public class StartupHelper {
      *
      * <pre><code>
      * public static void main(String... args) {
-     * 	if (StartupHelper.startNewJvmIfRequired(true)) return; // This handles macOS support and helps on Windows.
+     * 	if (StartupHelper.startNewJvmIfRequired(args, true)) return; // This handles macOS support and helps on Windows.
      * 	// after this is the actual main method code
      * }
      * </code></pre>
      *
+     * @param args
+     *            the program arguments, passed on to the new JVM
      * @param redirectOutput
      *            whether the output of the new JVM should be rerouted to the
      *            old JVM, so it can be accessed in the same place; keeps the
@@ -65,7 +68,7 @@ public class StartupHelper {
      * @return whether a new JVM was started and thus no code should be executed
      *         in this one
      */
-    public static boolean startNewJvmIfRequired(boolean redirectOutput) {
+    public static boolean startNewJvmIfRequired(String[] args, boolean redirectOutput) {
         String osName = System.getProperty("os.name").toLowerCase();
         if (!osName.contains("mac")) {
             if (osName.contains("windows")) {
@@ -129,6 +132,7 @@ public class StartupHelper {
             }
         }
         jvmArgs.add(mainClass);
+        Collections.addAll(jvmArgs, args);
 
         try {
             if (!redirectOutput) {
@@ -165,15 +169,17 @@ public class StartupHelper {
      *
      * <pre>
      * public static void main(String... args) {
-     * 	if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
+     * 	if (StartupHelper.startNewJvmIfRequired(args)) return; // This handles macOS support and helps on Windows.
      * 	// the actual main method code
      * }
      * </pre>
      *
+     * @param args
+     *            the program arguments, passed on to the new JVM
      * @return whether a new JVM was started and thus no code should be executed
      *         in this one
      */
-    public static boolean startNewJvmIfRequired() {
-        return startNewJvmIfRequired(true);
+    public static boolean startNewJvmIfRequired(String[] args) {
+        return startNewJvmIfRequired(args, true);
     }
 }